@@ -18,6 +18,10 @@ plugins {
 
 dependencies {
     api(project(":extensions:common:banner-extension"))
+    runtimeOnly(project(":extensions:control-plane:catalog:asset-selector-index"))
+    runtimeOnly(project(":extensions:control-plane:catalog:catalog-cache"))
+    runtimeOnly(project(":extensions:control-plane:policy:cel-evaluation"))
+    runtimeOnly(project(":extensions:control-plane:policy:policy-evaluation-cache"))
     runtimeOnly(libs.edc.core.controlplane.contract.tasks)
     runtimeOnly(libs.edc.core.controlplane.transfer.tasks)
     runtimeOnly(libs.edc.core.tasks)
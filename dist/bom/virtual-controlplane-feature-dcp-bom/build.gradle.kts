@@ -18,5 +18,10 @@ plugins {
 
 dependencies {
     runtimeOnly(libs.bundles.dcp)
+    runtimeOnly(project(":extensions:control-plane:iam:did-resolution-cache"))
+    runtimeOnly(project(":extensions:control-plane:iam:parallel-credential-validation"))
+    runtimeOnly(project(":extensions:control-plane:iam:status-list-cache"))
+    runtimeOnly(project(":extensions:control-plane:iam:sts-token-cache"))
+    runtimeOnly(project(":extensions:control-plane:iam:verified-presentation-cache"))
 }
 
@@ -18,6 +18,8 @@ plugins {
 
 dependencies {
     api(project(":dist:bom:virtual-controlplane-base-bom"))
+    runtimeOnly(project(":extensions:control-plane:store:process-store-cache"))
+    runtimeOnly(project(":extensions:control-plane:store:participant-context-cache"))
     runtimeOnly(libs.edc.bom.controlplane.sql)
     runtimeOnly(libs.edc.cel.store.sql)
     runtimeOnly(libs.edc.tasks.store.sql)
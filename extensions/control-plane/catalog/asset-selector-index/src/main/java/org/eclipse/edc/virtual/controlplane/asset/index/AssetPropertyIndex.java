@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.asset.index;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.spi.query.Criterion;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Inverted index of the assets of a participant context: for each property, the ids of the assets by value.
+ * <p>
+ * Resolves conjunctions of {@code =} and {@code in} criteria on top-level properties by intersecting the id sets of
+ * each criterion, smallest first, so the cost depends on the number of matches rather than on the number of assets.
+ * Values are compared by their string form. Criteria the index cannot resolve are reported as such, for the caller
+ * to fall back to the store.
+ */
+class AssetPropertyIndex {
+
+    private static final String ID = "id";
+    private static final String PARTICIPANT_CONTEXT_ID = "participantContextId";
+    private static final String PROPERTIES = "properties.";
+    private static final String PRIVATE_PROPERTIES = "privateProperties.";
+
+    private final long builtAt;
+    private final Map<String, Asset> assets = new TreeMap<>();
+    private final Map<String, Map<String, Set<String>>> postings = new HashMap<>();
+
+    AssetPropertyIndex(Stream<Asset> assets, long builtAt) {
+        this.builtAt = builtAt;
+        assets.forEach(this::put);
+    }
+
+    long builtAt() {
+        return builtAt;
+    }
+
+    synchronized void put(Asset asset) {
+        remove(asset.getId());
+        assets.put(asset.getId(), asset);
+        indexed(asset).forEach((property, value) -> postings.computeIfAbsent(property, k -> new HashMap<>())
+                .computeIfAbsent(String.valueOf(value), k -> new HashSet<>())
+                .add(asset.getId()));
+    }
+
+    synchronized void remove(String assetId) {
+        var previous = assets.remove(assetId);
+        if (previous != null) {
+            indexed(previous).forEach((property, value) -> {
+                var ids = postings.get(property).get(String.valueOf(value));
+                ids.remove(assetId);
+                if (ids.isEmpty()) {
+                    postings.get(property).remove(String.valueOf(value));
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the assets matching all the criteria, ordered by id, or null if a criterion cannot be resolved.
+     */
+    @Nullable
+    synchronized List<Asset> resolve(List<Criterion> criteria) {
+        var candidates = new ArrayList<Set<String>>(criteria.size());
+        for (var criterion : criteria) {
+            var ids = ids(criterion);
+            if (ids == null) {
+                return null;
+            }
+            candidates.add(ids);
+        }
+        if (candidates.isEmpty()) {
+            return List.copyOf(assets.values());
+        }
+        candidates.sort((a, b) -> Integer.compare(a.size(), b.size()));
+        var matches = new HashSet<>(candidates.get(0));
+        candidates.subList(1, candidates.size()).forEach(matches::retainAll);
+        return assets.values().stream().filter(asset -> matches.contains(asset.getId())).toList();
+    }
+
+    synchronized boolean contains(String assetId) {
+        return assets.containsKey(assetId);
+    }
+
+    synchronized int size() {
+        return assets.size();
+    }
+
+    @Nullable
+    private Set<String> ids(Criterion criterion) {
+        if (!(criterion.getOperandLeft() instanceof String property) || isNested(property)) {
+            return null;
+        }
+        var values = postings.getOrDefault(property, Map.of());
+        return switch (criterion.getOperator().toLowerCase()) {
+            case "=" -> values.getOrDefault(String.valueOf(criterion.getOperandRight()), Set.of());
+            case "in" -> criterion.getOperandRight() instanceof Collection<?> operands ? union(values, operands) : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * Whether the property is a path into a nested value. Dots in the namespace of a full IRI do not count, only
+     * those in the local name after the last {@code /} or {@code #}.
+     */
+    private boolean isNested(String property) {
+        if (property.startsWith(PROPERTIES) || property.startsWith(PRIVATE_PROPERTIES)) {
+            return true;
+        }
+        var localName = Math.max(property.lastIndexOf('/'), property.lastIndexOf('#'));
+        return property.indexOf('.', localName + 1) >= 0;
+    }
+
+    private Set<String> union(Map<String, Set<String>> values, Collection<?> operands) {
+        var ids = new HashSet<String>();
+        operands.forEach(operand -> ids.addAll(values.getOrDefault(String.valueOf(operand), Set.of())));
+        return ids;
+    }
+
+    private Map<String, Object> indexed(Asset asset) {
+        var properties = new HashMap<String, Object>();
+        asset.getProperties().forEach((key, value) -> {
+            if (value != null) {
+                properties.put(key, value);
+            }
+        });
+        properties.put(ID, asset.getId());
+        properties.put(EDC_NAMESPACE + ID, asset.getId());
+        if (asset.getParticipantContextId() != null) {
+            properties.put(PARTICIPANT_CONTEXT_ID, asset.getParticipantContextId());
+        }
+        return properties;
+    }
+}
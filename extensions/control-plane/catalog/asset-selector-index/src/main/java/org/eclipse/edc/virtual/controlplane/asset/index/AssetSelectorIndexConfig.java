@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.asset.index;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record AssetSelectorIndexConfig(
+        @Setting(key = "edc.asset.index.enabled", description = "Whether asset queries by selector criteria are resolved from an in-memory inverted index", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.asset.index.max-participants", description = "Max number of participant contexts whose assets are indexed at the same time", defaultValue = "100")
+        int maxParticipants,
+        @Setting(key = "edc.asset.index.ttl", description = "Time in seconds after which the index of a participant context is rebuilt. Bounds the staleness caused by changes " +
+                "made on other nodes", defaultValue = "300")
+        long ttl
+) {
+
+}
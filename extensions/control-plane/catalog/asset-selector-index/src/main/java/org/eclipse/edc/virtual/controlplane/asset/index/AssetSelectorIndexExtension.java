@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.asset.index;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.virtual.controlplane.asset.index.AssetSelectorIndexExtension.NAME;
+
+@Provides(AssetIndex.class)
+@Extension(NAME)
+public class AssetSelectorIndexExtension implements ServiceExtension {
+
+    public static final String NAME = "Asset Selector Index";
+
+    @Inject
+    private AssetIndex assetIndex;
+    @Inject
+    private EventRouter eventRouter;
+    @Inject
+    private Clock clock;
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Configuration
+    private AssetSelectorIndexConfig config;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (config.enabled()) {
+            var index = new IndexedAssetIndex(assetIndex, config, clock, transactionContext);
+            eventRouter.registerSync(AssetEvent.class, index);
+            context.registerService(AssetIndex.class, index);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.asset.index;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetDeleted;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * {@link AssetIndex} that resolves selector queries scoped to a participant context from an {@link AssetPropertyIndex}.
+ * <p>
+ * Contract definition matching queries the assets of a participant context with the criteria of an asset selector.
+ * The index of a participant context is built from the store on its first such query and rebuilt after a TTL. The
+ * writes going through this index and asset events drop the index of the participant contexts they touch once their
+ * transaction completes, so an uncommitted or rolled back write never ends up in an index. Until then, the queries of
+ * the writing transaction go to the store, which sees its own writes, and no index is kept from a build that may have
+ * read around a pending write. Queries that are not scoped to a participant context, that are sorted, or that have
+ * criteria the index cannot resolve go to the store as well.
+ */
+public class IndexedAssetIndex implements AssetIndex, EventSubscriber {
+
+    private static final String PARTICIPANT_CONTEXT_ID = "participantContextId";
+
+    private final AssetIndex delegate;
+    private final AssetSelectorIndexConfig config;
+    private final Clock clock;
+    private final Map<String, AssetPropertyIndex> indexes;
+    private final TransactionContext transactionContext;
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ThreadLocal<Writes> writes = ThreadLocal.withInitial(Writes::new);
+
+    public IndexedAssetIndex(AssetIndex delegate, AssetSelectorIndexConfig config, Clock clock, TransactionContext transactionContext) {
+        this.delegate = delegate;
+        this.config = config;
+        this.clock = clock;
+        this.transactionContext = transactionContext;
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AssetPropertyIndex> eldest) {
+                return size() > config.maxParticipants();
+            }
+        };
+    }
+
+    @Override
+    public Stream<Asset> queryAssets(QuerySpec querySpec) {
+        if (querySpec.getSortField() != null) {
+            return delegate.queryAssets(querySpec);
+        }
+        var matches = resolve(querySpec.getFilterExpression());
+        if (matches == null) {
+            return delegate.queryAssets(querySpec);
+        }
+        return matches.stream().skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
+    @Override
+    public long countAssets(List<Criterion> criteria) {
+        var matches = resolve(criteria);
+        return matches == null ? delegate.countAssets(criteria) : matches.size();
+    }
+
+    @Override
+    public @Nullable Asset findById(String assetId) {
+        return delegate.findById(assetId);
+    }
+
+    @Override
+    public StoreResult<Void> create(Asset asset) {
+        var result = delegate.create(asset);
+        if (result.succeeded()) {
+            written(asset.getId(), asset.getParticipantContextId());
+        }
+        return result;
+    }
+
+    @Override
+    public StoreResult<Asset> updateAsset(Asset asset) {
+        var result = delegate.updateAsset(asset);
+        if (result.succeeded()) {
+            written(asset.getId(), asset.getParticipantContextId());
+        }
+        return result;
+    }
+
+    @Override
+    public StoreResult<Asset> deleteById(String assetId) {
+        var result = delegate.deleteById(assetId);
+        if (result.succeeded()) {
+            written(assetId, result.getContent() == null ? null : result.getContent().getParticipantContextId());
+        }
+        return result;
+    }
+
+    @Override
+    public DataAddress resolveForAsset(String assetId) {
+        return delegate.resolveForAsset(assetId);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> envelope) {
+        if (envelope.getPayload() instanceof AssetEvent event) {
+            var asset = event instanceof AssetDeleted ? null : delegate.findById(event.getAssetId());
+            written(event.getAssetId(), asset == null ? null : asset.getParticipantContextId());
+        }
+    }
+
+    int size() {
+        synchronized (indexes) {
+            return indexes.size();
+        }
+    }
+
+    @Nullable
+    private List<Asset> resolve(List<Criterion> criteria) {
+        var participantContextId = participantContextId(criteria);
+        if (participantContextId == null || !writes.get().isEmpty()) {
+            return null;
+        }
+        return index(participantContextId).resolve(criteria);
+    }
+
+    private AssetPropertyIndex index(String participantContextId) {
+        AssetPropertyIndex index;
+        synchronized (indexes) {
+            index = indexes.get(participantContextId);
+        }
+        if (index == null || clock.millis() - index.builtAt() > SECONDS.toMillis(config.ttl())) {
+            var changesBefore = changes.get();
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(criterion(PARTICIPANT_CONTEXT_ID, "=", participantContextId))
+                    .limit(Integer.MAX_VALUE)
+                    .build();
+            index = new AssetPropertyIndex(delegate.queryAssets(query), clock.millis());
+            // a write during the build, or one not committed yet, may or may not be reflected, so such an index is
+            // used once but not kept
+            if (changes.get() == changesBefore && pending.get() == 0) {
+                synchronized (indexes) {
+                    indexes.put(participantContextId, index);
+                }
+            }
+        }
+        return index;
+    }
+
+    private void written(String assetId, @Nullable String participantContextId) {
+        changes.incrementAndGet();
+        var current = writes.get();
+        if (current.isEmpty()) {
+            try {
+                transactionContext.registerSynchronization(this::completed);
+                pending.incrementAndGet();
+            } catch (IllegalStateException e) {
+                // no transaction is active, so the write is already committed
+                writes.remove();
+                drop(Set.of(assetId), participantContextId == null ? Set.of() : Set.of(participantContextId));
+                return;
+            }
+        }
+        current.assetIds.add(assetId);
+        if (participantContextId != null) {
+            current.participantContextIds.add(participantContextId);
+        }
+    }
+
+    private void completed() {
+        var completed = writes.get();
+        writes.remove();
+        drop(completed.assetIds, completed.participantContextIds);
+        pending.decrementAndGet();
+    }
+
+    private void drop(Set<String> assetIds, Set<String> participantContextIds) {
+        changes.incrementAndGet();
+        synchronized (indexes) {
+            indexes.entrySet().removeIf(entry -> participantContextIds.contains(entry.getKey()) ||
+                    assetIds.stream().anyMatch(entry.getValue()::contains));
+        }
+    }
+
+    @Nullable
+    private String participantContextId(List<Criterion> criteria) {
+        return criteria.stream()
+                .filter(criterion -> PARTICIPANT_CONTEXT_ID.equals(criterion.getOperandLeft()) && "=".equals(criterion.getOperator()))
+                .map(criterion -> String.valueOf(criterion.getOperandRight()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Assets and participant contexts written by the transaction of the current thread.
+     */
+    private static class Writes {
+        private final Set<String> assetIds = new HashSet<>();
+        private final Set<String> participantContextIds = new HashSet<>();
+
+        boolean isEmpty() {
+            return assetIds.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.asset.index;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class AssetPropertyIndexTest {
+
+    private static final String TYPE = "https://w3id.org/edc/v0.0.1/ns/type";
+    private static final String REGION = "https://w3id.org/edc/v0.0.1/ns/region";
+
+    @Test
+    void resolve_shouldIntersectEqualityCriteria() {
+        var index = index(asset("a", "dataset", "eu"), asset("b", "dataset", "us"), asset("c", "service", "eu"));
+
+        var result = index.resolve(List.of(criterion(TYPE, "=", "dataset"), criterion(REGION, "=", "eu")));
+
+        assertThat(result).extracting(Asset::getId).containsExactly("a");
+    }
+
+    @Test
+    void resolve_shouldUnionInOperands() {
+        var index = index(asset("a", "dataset", "eu"), asset("b", "dataset", "us"), asset("c", "service", "ap"));
+
+        var result = index.resolve(List.of(criterion("id", "in", List.of("c", "a", "unknown"))));
+
+        assertThat(result).extracting(Asset::getId).containsExactly("a", "c");
+    }
+
+    @Test
+    void resolve_shouldMatchParticipantContext() {
+        var index = index(asset("a", "dataset", "eu"));
+
+        assertThat(index.resolve(List.of(criterion("participantContextId", "=", "provider")))).hasSize(1);
+        assertThat(index.resolve(List.of(criterion("participantContextId", "=", "other")))).isEmpty();
+    }
+
+    @Test
+    void resolve_shouldReturnAll_whenNoCriteria() {
+        var index = index(asset("b", "dataset", "eu"), asset("a", "dataset", "eu"));
+
+        assertThat(index.resolve(List.of())).extracting(Asset::getId).containsExactly("a", "b");
+    }
+
+    @Test
+    void resolve_shouldReturnNull_whenCriterionIsNotIndexable() {
+        var index = index(asset("a", "dataset", "eu"));
+
+        assertThat(index.resolve(List.of(criterion(TYPE, "like", "data%")))).isNull();
+        assertThat(index.resolve(List.of(criterion("properties.nested", "=", "value")))).isNull();
+        assertThat(index.resolve(List.of(criterion("privateProperties.nested", "=", "value")))).isNull();
+        assertThat(index.resolve(List.of(criterion(TYPE + ".nested", "=", "value")))).isNull();
+        assertThat(index.resolve(List.of(new Criterion(TYPE, "in", "dataset")))).isNull();
+    }
+
+    @Test
+    void put_shouldReplacePreviousValues() {
+        var index = index(asset("a", "dataset", "eu"));
+
+        index.put(asset("a", "dataset", "us"));
+
+        assertThat(index.resolve(List.of(criterion(REGION, "=", "eu")))).isEmpty();
+        assertThat(index.resolve(List.of(criterion(REGION, "=", "us")))).extracting(Asset::getId).containsExactly("a");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_shouldDropAsset() {
+        var index = index(asset("a", "dataset", "eu"), asset("b", "dataset", "eu"));
+
+        index.remove("a");
+
+        assertThat(index.resolve(List.of(criterion(TYPE, "=", "dataset")))).extracting(Asset::getId).containsExactly("b");
+    }
+
+    private AssetPropertyIndex index(Asset... assets) {
+        return new AssetPropertyIndex(Stream.of(assets), 0);
+    }
+
+    private Asset asset(String id, String type, String region) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property(TYPE, type)
+                .property(REGION, region)
+                .dataAddress(DataAddress.Builder.newInstance().type("HttpData").build())
+                .participantContextId("provider")
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.asset.index;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IndexedAssetIndexTest {
+
+    private final AssetIndex delegate = mock();
+    private final TransactionContext transactionContext = mock();
+    private final IndexedAssetIndex index = new IndexedAssetIndex(delegate, new AssetSelectorIndexConfig(true, 100, 300),
+            Clock.systemUTC(), transactionContext);
+
+    @Test
+    void queryAssets_shouldKeepIndex_untilWritingTransactionCompleted() {
+        var synchronization = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        when(delegate.queryAssets(any())).thenAnswer(i -> Stream.of(asset("a")));
+        when(delegate.create(any())).thenReturn(StoreResult.success());
+        index.queryAssets(query()).toList();
+
+        index.create(asset("b"));
+        index.queryAssets(query()).toList();
+
+        verify(delegate, times(2)).queryAssets(any());
+        verify(transactionContext).registerSynchronization(synchronization.capture());
+        assertThat(index.size()).isEqualTo(1);
+
+        synchronization.getValue().beforeCompletion();
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void queryAssets_shouldNotKeepIndex_whileWriteIsPending() throws InterruptedException {
+        var synchronization = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        when(delegate.queryAssets(any())).thenAnswer(i -> Stream.of(asset("a")));
+        when(delegate.create(any())).thenReturn(StoreResult.success());
+        index.create(asset("b"));
+        verify(transactionContext).registerSynchronization(synchronization.capture());
+
+        var otherThread = new Thread(() -> index.queryAssets(query()).toList());
+        otherThread.start();
+        otherThread.join();
+
+        assertThat(index.size()).isZero();
+
+        synchronization.getValue().beforeCompletion();
+        index.queryAssets(query()).toList();
+
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void create_shouldDropIndex_whenNoTransactionIsActive() {
+        doThrow(new IllegalStateException()).when(transactionContext).registerSynchronization(any());
+        when(delegate.queryAssets(any())).thenAnswer(i -> Stream.of(asset("a")));
+        when(delegate.create(any())).thenReturn(StoreResult.success());
+        index.queryAssets(query()).toList();
+
+        index.create(asset("b"));
+
+        assertThat(index.size()).isZero();
+    }
+
+    private QuerySpec query() {
+        return QuerySpec.Builder.newInstance().filter(criterion("participantContextId", "=", "provider")).build();
+    }
+
+    private Asset asset(String id) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .dataAddress(DataAddress.Builder.newInstance().type("HttpData").build())
+                .participantContextId("provider")
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.catalog.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link DatasetResolver} that serves catalogs from {@link MaterializedCatalog}s.
+ * <p>
+ * A catalog is materialized per participant context, protocol, agent class and time bucket on the first unfiltered
+ * query, then pages are read from memory. By default the agent class is the agent identity plus a fingerprint of all
+ * its claims, so a catalog is only shared by requests presenting the same claims. When claims are configured, the
+ * agent class is made of the identity and the values of those claims only: agents of the same class are then assumed
+ * to be offered the same datasets. The time bucket makes constraints on the current time re-evaluated at least once
+ * per bucket. Changes to an asset only re-resolve that asset's
+ * dataset; changes to policies or contract definitions can affect any dataset, so they drop the catalogs instead.
+ * Queries with filters or a sort field are not served from memory.
+ */
+public class CachingDatasetResolver implements DatasetResolver, EventSubscriber {
+
+    private final DatasetResolver delegate;
+    private final CatalogCacheConfig config;
+    private final List<String> agentClaims;
+    private final ObjectWriter writer;
+    private final Clock clock;
+    private final Map<CatalogKey, MaterializedCatalog> catalogs;
+    private final AtomicLong changes = new AtomicLong();
+
+    public CachingDatasetResolver(DatasetResolver delegate, CatalogCacheConfig config, TypeManager typeManager, Clock clock) {
+        this.delegate = delegate;
+        this.config = config;
+        this.writer = typeManager.getMapper().writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.clock = clock;
+        this.agentClaims = Stream.of(config.agentClaims().split(","))
+                .map(String::trim)
+                .filter(claim -> !claim.isEmpty())
+                .toList();
+        this.catalogs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CatalogKey, MaterializedCatalog> eldest) {
+                return size() > config.maxCatalogs();
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Stream<Dataset> query(ParticipantContext participantContext, ParticipantAgent agent, QuerySpec querySpec, String protocol) {
+        if (!querySpec.getFilterExpression().isEmpty() || querySpec.getSortField() != null) {
+            return delegate.query(participantContext, agent, querySpec, protocol);
+        }
+        return catalog(participantContext, agent, protocol).page(querySpec.getOffset(), querySpec.getLimit());
+    }
+
+    @Override
+    public Dataset getById(ParticipantContext participantContext, ParticipantAgent agent, String id, String protocol) {
+        return catalog(participantContext, agent, protocol).get(id);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> envelope) {
+        changes.incrementAndGet();
+        if (envelope.getPayload() instanceof AssetEvent assetEvent) {
+            synchronized (catalogs) {
+                catalogs.values().forEach(catalog -> catalog.markDirty(assetEvent.getAssetId()));
+            }
+        } else {
+            synchronized (catalogs) {
+                catalogs.clear();
+            }
+        }
+    }
+
+    int size() {
+        synchronized (catalogs) {
+            return catalogs.size();
+        }
+    }
+
+    private MaterializedCatalog catalog(ParticipantContext participantContext, ParticipantAgent agent, String protocol) {
+        var bucket = clock.millis() / SECONDS.toMillis(Math.max(1, config.timeBucket()));
+        var key = new CatalogKey(participantContext.getParticipantContextId(), protocol, agentClass(agent), bucket);
+        MaterializedCatalog catalog;
+        synchronized (catalogs) {
+            catalog = catalogs.get(key);
+        }
+        if (catalog == null || clock.millis() - catalog.builtAt() > SECONDS.toMillis(config.ttl())) {
+            var builtAt = clock.millis();
+            var changesBefore = changes.get();
+            catalog = new MaterializedCatalog(participantContext, agent, protocol,
+                    delegate.query(participantContext, agent, QuerySpec.max(), protocol), builtAt);
+            // a change during the build may or may not be reflected, so such a catalog is served once but not kept
+            if (changes.get() == changesBefore) {
+                synchronized (catalogs) {
+                    catalogs.put(key, catalog);
+                }
+            }
+        }
+        var current = catalog;
+        current.refresh(assetId -> delegate.getById(current.participantContext(), current.agent(), assetId, current.protocol()));
+        return current;
+    }
+
+    private String agentClass(ParticipantAgent agent) {
+        var claims = Objects.requireNonNullElse(agent.getClaims(), Map.<String, Object>of());
+        if (agentClaims.isEmpty()) {
+            return agent.getIdentity() + "|" + fingerprint(claims);
+        }
+        return agentClaims.stream()
+                .map(claim -> claim + "=" + Objects.toString(claims.get(claim), ""))
+                .collect(Collectors.joining(",", agent.getIdentity() + "|", ""));
+    }
+
+    private String fingerprint(Map<String, Object> claims) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(writer.writeValueAsBytes(claims)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record CatalogKey(String participantContextId, String protocol, String agentClass, long bucket) {
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.catalog.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record CatalogCacheConfig(
+        @Setting(key = "edc.catalog.cache.enabled", description = "Whether the datasets offered to requesting agents are materialized and served from memory", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.catalog.cache.max-catalogs", description = "Max number of materialized catalogs, one per participant context, protocol and agent class", defaultValue = "1000")
+        int maxCatalogs,
+        @Setting(key = "edc.catalog.cache.ttl", description = "Time in seconds after which a materialized catalog is rebuilt. Bounds the staleness caused by changes " +
+                "made on other nodes and by time-dependent policies", defaultValue = "300")
+        long ttl,
+        @Setting(key = "edc.catalog.cache.time-bucket", description = "Width in seconds of the time buckets catalogs are materialized for, so that time-based constraints are re-evaluated " +
+                "at least once per bucket", defaultValue = "60")
+        long timeBucket,
+        @Setting(key = "edc.catalog.cache.agent-claims", description = "Comma-separated claims that, together with the agent identity, make up the agent class. " +
+                "Agents of the same class must be offered the same datasets. When empty, a fingerprint of all the claims of the agent is used", defaultValue = "")
+        String agentClaims
+) {
+
+}
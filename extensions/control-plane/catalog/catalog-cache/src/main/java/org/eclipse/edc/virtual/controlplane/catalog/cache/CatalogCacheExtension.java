@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.virtual.controlplane.catalog.cache.CatalogCacheExtension.NAME;
+
+@Provides(DatasetResolver.class)
+@Extension(NAME)
+public class CatalogCacheExtension implements ServiceExtension {
+
+    public static final String NAME = "Catalog Cache";
+
+    @Inject
+    private DatasetResolver datasetResolver;
+    @Inject
+    private EventRouter eventRouter;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private CatalogCacheConfig config;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (config.enabled()) {
+            var resolver = new CachingDatasetResolver(datasetResolver, config, typeManager, clock);
+            // synchronous, so that a catalog read right after a change already reflects it
+            eventRouter.registerSync(AssetEvent.class, resolver);
+            eventRouter.registerSync(PolicyDefinitionEvent.class, resolver);
+            eventRouter.registerSync(ContractDefinitionEvent.class, resolver);
+            context.registerService(DatasetResolver.class, resolver);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Datasets offered to one class of agents by a participant context over a protocol, ordered by id.
+ * <p>
+ * Assets that changed since the catalog was built are marked dirty and their dataset is resolved again, alone, on
+ * the next read. The participant context and agent the catalog was built for are kept to do so.
+ */
+class MaterializedCatalog {
+
+    private final ParticipantContext participantContext;
+    private final ParticipantAgent agent;
+    private final String protocol;
+    private final long builtAt;
+    private final Map<String, Dataset> datasets = new ConcurrentSkipListMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    MaterializedCatalog(ParticipantContext participantContext, ParticipantAgent agent, String protocol, Stream<Dataset> datasets, long builtAt) {
+        this.participantContext = participantContext;
+        this.agent = agent;
+        this.protocol = protocol;
+        this.builtAt = builtAt;
+        datasets.forEach(dataset -> this.datasets.put(dataset.getId(), dataset));
+    }
+
+    ParticipantContext participantContext() {
+        return participantContext;
+    }
+
+    ParticipantAgent agent() {
+        return agent;
+    }
+
+    String protocol() {
+        return protocol;
+    }
+
+    long builtAt() {
+        return builtAt;
+    }
+
+    void markDirty(String assetId) {
+        dirty.add(assetId);
+    }
+
+    /**
+     * Resolves the datasets of the dirty assets again. A null dataset means the asset is not offered anymore.
+     */
+    void refresh(Function<String, Dataset> resolver) {
+        for (var assetId : dirty) {
+            if (dirty.remove(assetId)) {
+                var dataset = resolver.apply(assetId);
+                if (dataset == null) {
+                    datasets.remove(assetId);
+                } else {
+                    datasets.put(assetId, dataset);
+                }
+            }
+        }
+    }
+
+    Stream<Dataset> page(int offset, int limit) {
+        return datasets.values().stream().skip(offset).limit(limit);
+    }
+
+    @Nullable
+    Dataset get(String id) {
+        return datasets.get(id);
+    }
+
+    int size() {
+        return datasets.size();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.catalog.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionUpdated;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDatasetResolverTest {
+
+    private static final String PROTOCOL = "dataspace-protocol-http:2025-1";
+
+    private final DatasetResolver delegate = mock();
+    private final Clock clock = mock();
+    private final ParticipantContext participantContext = mock();
+    private final TypeManager typeManager = mock();
+    private CachingDatasetResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        when(typeManager.getMapper()).thenReturn(new ObjectMapper());
+        resolver = new CachingDatasetResolver(delegate, new CatalogCacheConfig(true, 10, 60, 3600, "role"), typeManager, clock);
+        when(participantContext.getParticipantContextId()).thenReturn("provider");
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    @Test
+    void query_shouldServePagesFromMaterializedCatalog() {
+        when(delegate.query(any(), any(), any(), any())).thenAnswer(i -> Stream.of(dataset("c"), dataset("a"), dataset("b")));
+        var agent = agent("consumer", "member");
+
+        var first = resolver.query(participantContext, agent, page(0, 2), PROTOCOL).map(Dataset::getId).toList();
+        var second = resolver.query(participantContext, agent, page(2, 2), PROTOCOL).map(Dataset::getId).toList();
+
+        assertThat(first).containsExactly("a", "b");
+        assertThat(second).containsExactly("c");
+        verify(delegate).query(any(), any(), any(), any());
+    }
+
+    @Test
+    void query_shouldMaterializePerAgentClass() {
+        when(delegate.query(any(), any(), any(), any())).thenAnswer(i -> Stream.of(dataset("a")));
+
+        resolver.query(participantContext, agent("consumer", "member"), page(0, 10), PROTOCOL).toList();
+        resolver.query(participantContext, agent("consumer", "member"), page(0, 10), PROTOCOL).toList();
+        resolver.query(participantContext, agent("consumer", "auditor"), page(0, 10), PROTOCOL).toList();
+
+        verify(delegate, times(2)).query(any(), any(), any(), any());
+        assertThat(resolver.size()).isEqualTo(2);
+    }
+
+    @Test
+    void query_shouldMaterializePerClaims_whenNoAgentClaimsConfigured() {
+        resolver = new CachingDatasetResolver(delegate, new CatalogCacheConfig(true, 10, 60, 3600, ""), typeManager, clock);
+        when(delegate.query(any(), any(), any(), any())).thenAnswer(i -> Stream.of(dataset("a")));
+
+        resolver.query(participantContext, agent("consumer", "member"), page(0, 10), PROTOCOL).toList();
+        resolver.query(participantContext, agent("consumer", "member"), page(0, 10), PROTOCOL).toList();
+        resolver.query(participantContext, agent("consumer", "member", "other-token"), page(0, 10), PROTOCOL).toList();
+
+        verify(delegate, times(2)).query(any(), any(), any(), any());
+        assertThat(resolver.size()).isEqualTo(2);
+    }
+
+    @Test
+    void query_shouldRebuild_whenTimeBucketChanges() {
+        resolver = new CachingDatasetResolver(delegate, new CatalogCacheConfig(true, 10, 300, 60, "role"), typeManager, clock);
+        when(delegate.query(any(), any(), any(), any())).thenAnswer(i -> Stream.of(dataset("a")));
+        var agent = agent("consumer", "member");
+
+        resolver.query(participantContext, agent, page(0, 10), PROTOCOL).toList();
+        when(clock.millis()).thenReturn(59_999L);
+        resolver.query(participantContext, agent, page(0, 10), PROTOCOL).toList();
+        when(clock.millis()).thenReturn(60_000L);
+        resolver.query(participantContext, agent, page(0, 10), PROTOCOL).toList();
+
+        verify(delegate, times(2)).query(any(), any(), any(), any());
+    }
+
+    @Test
+    void query_shouldDelegate_whenFiltered() {
+        var filtered = QuerySpec.Builder.newInstance().filter(Criterion.criterion("id", "=", "a")).build();
+        when(delegate.query(any(), any(), eq(filtered), any())).thenReturn(Stream.of(dataset("a")));
+
+        var result = resolver.query(participantContext, agent("consumer", "member"), filtered, PROTOCOL).toList();
+
+        assertThat(result).hasSize(1);
+        assertThat(resolver.size()).isZero();
+    }
+
+    @Test
+    void query_shouldRebuild_whenTtlExpired() {
+        when(delegate.query(any(), any(), any(), any())).thenAnswer(i -> Stream.of(dataset("a")));
+        var agent = agent("consumer", "member");
+
+        resolver.query(participantContext, agent, page(0, 10), PROTOCOL).toList();
+        when(clock.millis()).thenReturn(60_001L);
+        resolver.query(participantContext, agent, page(0, 10), PROTOCOL).toList();
+
+        verify(delegate, times(2)).query(any(), any(), any(), any());
+    }
+
+    @Test
+    void on_assetEvent_shouldResolveOnlyChangedAsset() {
+        when(delegate.query(any(), any(), any(), any())).thenAnswer(i -> Stream.of(dataset("a"), dataset("b")));
+        when(delegate.getById(any(), any(), eq("b"), any())).thenReturn(null);
+        when(delegate.getById(any(), any(), eq("c"), any())).thenReturn(dataset("c"));
+        var agent = agent("consumer", "member");
+        resolver.query(participantContext, agent, page(0, 10), PROTOCOL).toList();
+
+        resolver.on(envelope(AssetUpdated.Builder.newInstance().assetId("b").build()));
+        resolver.on(envelope(AssetUpdated.Builder.newInstance().assetId("c").build()));
+        var result = resolver.query(participantContext, agent, page(0, 10), PROTOCOL).map(Dataset::getId).toList();
+
+        assertThat(result).containsExactly("a", "c");
+        verify(delegate).query(any(), any(), any(), any());
+    }
+
+    @Test
+    void on_policyEvent_shouldDropCatalogs() {
+        when(delegate.query(any(), any(), any(), any())).thenAnswer(i -> Stream.of(dataset("a")));
+        resolver.query(participantContext, agent("consumer", "member"), page(0, 10), PROTOCOL).toList();
+
+        resolver.on(envelope(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("policy").build()));
+
+        assertThat(resolver.size()).isZero();
+    }
+
+    @Test
+    void getById_shouldReadFromMaterializedCatalog() {
+        when(delegate.query(any(), any(), any(), any())).thenAnswer(i -> Stream.of(dataset("a")));
+        var agent = agent("consumer", "member");
+
+        assertThat(resolver.getById(participantContext, agent, "a", PROTOCOL)).isNotNull();
+        assertThat(resolver.getById(participantContext, agent, "unknown", PROTOCOL)).isNull();
+        verify(delegate).query(any(), any(), any(), any());
+    }
+
+    private QuerySpec page(int offset, int limit) {
+        return QuerySpec.Builder.newInstance().offset(offset).limit(limit).build();
+    }
+
+    private ParticipantAgent agent(String identity, String role) {
+        return agent(identity, role, identity + role);
+    }
+
+    private ParticipantAgent agent(String identity, String role, String tokenId) {
+        var agent = mock(ParticipantAgent.class);
+        when(agent.getIdentity()).thenReturn(identity);
+        when(agent.getClaims()).thenReturn(Map.of("role", role, "jti", tokenId));
+        return agent;
+    }
+
+    private Dataset dataset(String id) {
+        var dataset = mock(Dataset.class);
+        when(dataset.getId()).thenReturn(id);
+        return dataset;
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventEnvelope<?> envelope(Event event) {
+        var envelope = mock(EventEnvelope.class);
+        when(envelope.getPayload()).thenReturn(event);
+        return envelope;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.dsp.http;
+
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Counts, per counterparty host, the calls sent and the distinct connections they were sent over, from which the
+ * share of calls served by a pooled or multiplexed connection follows.
+ * <p>
+ * It is installed as a network interceptor rather than as an {@link okhttp3.EventListener}, so that the event
+ * listener of the runtime's client, through which its HTTP instrumentation observes the calls, is kept.
+ */
+public class ConnectionReuseMetrics implements Interceptor {
+
+    private final Map<String, Counters> hosts = new ConcurrentHashMap<>();
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        var url = chain.request().url();
+        var counters = hosts.computeIfAbsent(url.host() + ":" + url.port(), host -> new Counters());
+        counters.calls.increment();
+        var connection = chain.connection();
+        if (connection != null && counters.connections.add(connection)) {
+            counters.opened.increment();
+        }
+        return chain.proceed(chain.request());
+    }
+
+    /**
+     * Returns the current counters, keyed by {@code host:port}.
+     */
+    public Map<String, HostStats> snapshot() {
+        return hosts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stats()));
+    }
+
+    public record HostStats(long calls, long connections) {
+
+        /**
+         * Share of the calls that did not open a new connection.
+         */
+        public double reuseRatio() {
+            return calls == 0 ? 0 : Math.max(0, calls - connections) / (double) calls;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder opened = new LongAdder();
+        private final Set<Connection> connections = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+        HostStats stats() {
+            return new HostStats(calls.sum(), opened.sum());
+        }
+    }
+}
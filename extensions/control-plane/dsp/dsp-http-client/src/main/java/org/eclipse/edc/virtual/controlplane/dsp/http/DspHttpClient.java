@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.dsp.http;
+
+import dev.failsafe.RetryPolicy;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import org.eclipse.edc.http.client.EdcHttpClientImpl;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+/**
+ * The {@link org.eclipse.edc.http.spi.EdcHttpClient} dedicated to protocol messages. It has its own connection pool
+ * and request bounds, so that traffic to counterparties neither competes with nor reconfigures the runtime's default
+ * client.
+ */
+public class DspHttpClient extends EdcHttpClientImpl {
+
+    public DspHttpClient(OkHttpClient okHttpClient, RetryPolicy<Response> retryPolicy, Monitor monitor) {
+        super(okHttpClient, retryPolicy, monitor);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.dsp.http;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record DspHttpClientConfig(
+        @Setting(key = "edc.dsp.http.client.max-idle-connections", description = "Max number of idle connections kept alive, over all counterparties", defaultValue = "64")
+        int maxIdleConnections,
+        @Setting(key = "edc.dsp.http.client.max-requests", description = "Max number of asynchronous requests in flight", defaultValue = "256")
+        int maxRequests,
+        @Setting(key = "edc.dsp.http.client.max-requests-per-host", description = "Max number of asynchronous requests in flight to a single counterparty host", defaultValue = "32")
+        int maxRequestsPerHost
+) {
+
+}
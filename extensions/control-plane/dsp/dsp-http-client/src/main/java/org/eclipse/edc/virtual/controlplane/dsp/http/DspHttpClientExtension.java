@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.dsp.http;
+
+import dev.failsafe.RetryPolicy;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import static org.eclipse.edc.virtual.controlplane.dsp.http.DspHttpClientExtension.NAME;
+
+/**
+ * Provides the pooled, keep-alive {@link DspHttpClient} for the dispatchers of protocol messages that inject it. The
+ * runtime's default {@link EdcHttpClient} is left untouched, so other outbound calls keep their own client.
+ */
+@Extension(NAME)
+public class DspHttpClientExtension implements ServiceExtension {
+
+    public static final String NAME = "DSP HTTP Client";
+
+    @Inject
+    private OkHttpClient okHttpClient;
+    @Inject
+    private RetryPolicy<Response> retryPolicy;
+    @Inject
+    private Monitor monitor;
+
+    @Configuration
+    private DspHttpClientConfig config;
+
+    private ConnectionReuseMetrics metrics;
+    private OkHttpClient client;
+    private DspHttpClient dspHttpClient;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public DspHttpClient dspHttpClient() {
+        if (dspHttpClient == null) {
+            client = DspHttpClientFactory.create(okHttpClient, config, connectionReuseMetrics());
+            dspHttpClient = new DspHttpClient(client, retryPolicy, monitor);
+        }
+        return dspHttpClient;
+    }
+
+    @Provider
+    public ConnectionReuseMetrics connectionReuseMetrics() {
+        if (metrics == null) {
+            metrics = new ConnectionReuseMetrics();
+        }
+        return metrics;
+    }
+
+    @Override
+    public void shutdown() {
+        if (client != null) {
+            metrics.snapshot().forEach((host, stats) -> monitor.debug(() -> "%s: %d calls over %d connections, reuse ratio %.2f"
+                    .formatted(host, stats.calls(), stats.connections(), stats.reuseRatio())));
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+        }
+    }
+}
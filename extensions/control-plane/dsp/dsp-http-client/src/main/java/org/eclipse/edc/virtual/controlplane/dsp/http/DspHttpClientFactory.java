@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.dsp.http;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Derives the client used to dispatch protocol messages from the runtime's {@link OkHttpClient}, so timeouts,
+ * interceptors and DNS settings are kept, with its own connection pool and request bounds.
+ */
+public final class DspHttpClientFactory {
+
+    /**
+     * OkHttp's default keep-alive.
+     */
+    private static final long KEEP_ALIVE_MINUTES = 5;
+
+    private DspHttpClientFactory() {
+    }
+
+    /**
+     * Creates the client.
+     * <p>
+     * Connections are pooled per counterparty address and kept alive between messages, and OkHttp negotiates HTTP/2
+     * over TLS, so concurrent messages to the same counterparty share one connection. Only the pool size and the
+     * bounds of asynchronous calls differ from OkHttp's defaults. The event listener of the runtime's client is kept,
+     * so the calls are observed by the same instrumentation.
+     *
+     * @param base    the runtime's client
+     * @param config  the client configuration
+     * @param metrics the interceptor counting the connection reuse
+     * @return the client
+     */
+    public static OkHttpClient create(OkHttpClient base, DspHttpClientConfig config, Interceptor metrics) {
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.maxRequests());
+        dispatcher.setMaxRequestsPerHost(config.maxRequestsPerHost());
+
+        return base.newBuilder()
+                .connectionPool(new ConnectionPool(config.maxIdleConnections(), KEEP_ALIVE_MINUTES, MINUTES))
+                .dispatcher(dispatcher)
+                .addNetworkInterceptor(metrics)
+                .build();
+    }
+}
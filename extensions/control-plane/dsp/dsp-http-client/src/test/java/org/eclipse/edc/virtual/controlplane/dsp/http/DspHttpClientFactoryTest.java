@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.dsp.http;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DspHttpClientFactoryTest {
+
+    @RegisterExtension
+    static WireMockExtension counterParty = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @RegisterExtension
+    static WireMockExtension otherCounterParty = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private final ConnectionReuseMetrics metrics = new ConnectionReuseMetrics();
+    private final OkHttpClient client = DspHttpClientFactory.create(new OkHttpClient(),
+            new DspHttpClientConfig(8, 16, 4), metrics);
+
+    @Test
+    void shouldReuseConnectionAcrossMessages() throws IOException {
+        counterParty.stubFor(get("/dsp/negotiations/1").willReturn(okJson("{}")));
+
+        for (var i = 0; i < 5; i++) {
+            call(counterParty.baseUrl() + "/dsp/negotiations/1");
+        }
+
+        assertThat(metrics.snapshot()).hasSize(1).allSatisfy((host, stats) -> {
+            assertThat(stats.calls()).isEqualTo(5);
+            assertThat(stats.connections()).isEqualTo(1);
+            assertThat(stats.reuseRatio()).isEqualTo(0.8);
+        });
+        assertThat(client.connectionPool().idleConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTrackCounterPartiesSeparately() throws IOException {
+        counterParty.stubFor(get("/dsp/transfers/1").willReturn(okJson("{}")));
+        otherCounterParty.stubFor(get("/dsp/transfers/1").willReturn(okJson("{}")));
+
+        call(counterParty.baseUrl() + "/dsp/transfers/1");
+        call(counterParty.baseUrl() + "/dsp/transfers/1");
+        call(otherCounterParty.baseUrl() + "/dsp/transfers/1");
+
+        assertThat(metrics.snapshot()).containsOnlyKeys("localhost:" + counterParty.getPort(), "localhost:" + otherCounterParty.getPort());
+        assertThat(metrics.snapshot().get("localhost:" + counterParty.getPort()).connections()).isEqualTo(1);
+        assertThat(client.connectionPool().connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldApplyRequestBounds() {
+        assertThat(client.dispatcher().getMaxRequests()).isEqualTo(16);
+        assertThat(client.dispatcher().getMaxRequestsPerHost()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldKeepEventListenerOfRuntimeClient() {
+        var listenerFactory = mock(EventListener.Factory.class);
+        var base = new OkHttpClient.Builder().eventListenerFactory(listenerFactory).build();
+
+        var derived = DspHttpClientFactory.create(base, new DspHttpClientConfig(8, 16, 4), metrics);
+
+        assertThat(derived.eventListenerFactory()).isSameAs(listenerFactory);
+        assertThat(derived.networkInterceptors()).contains(metrics);
+    }
+
+    private void call(String url) throws IOException {
+        try (var response = client.newCall(new Request.Builder().url(url).build()).execute()) {
+            assertThat(response.isSuccessful()).isTrue();
+        }
+    }
+}
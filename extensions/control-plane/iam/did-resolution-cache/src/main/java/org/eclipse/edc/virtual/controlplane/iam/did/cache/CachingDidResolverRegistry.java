@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.did.cache;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link DidResolverRegistry} that caches resolved DID documents.
+ * <p>
+ * A document is served from memory for the TTL. After that, and up to the max stale time, it is still served while
+ * it is resolved again in the background; if that resolution fails, the stale document is kept, so an unavailable
+ * identity hub does not fail verifications until the document is too old. Failed resolutions of unknown DIDs are
+ * cached for the negative TTL. Concurrent resolutions of the same DID are deduplicated: the first caller resolves
+ * it, the others wait for its result.
+ */
+public class CachingDidResolverRegistry implements DidResolverRegistry {
+
+    private final DidResolverRegistry delegate;
+    private final DidResolutionCacheConfig config;
+    private final Executor refresher;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Map<String, Entry> documents;
+    private final Map<String, CompletableFuture<Result<DidDocument>>> inflight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public CachingDidResolverRegistry(DidResolverRegistry delegate, DidResolutionCacheConfig config, Executor refresher, Clock clock, Monitor monitor) {
+        this.delegate = delegate;
+        this.config = config;
+        this.refresher = refresher;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > config.maxEntries();
+            }
+        };
+    }
+
+    @Override
+    public void register(DidResolver resolver) {
+        delegate.register(resolver);
+    }
+
+    @Override
+    public boolean isSupported(String didMethod) {
+        return delegate.isSupported(didMethod);
+    }
+
+    @Override
+    public Result<DidDocument> resolve(String didKey) {
+        var now = clock.millis();
+        Entry entry;
+        synchronized (documents) {
+            entry = documents.get(didKey);
+        }
+        if (entry != null) {
+            if (now < entry.freshUntil()) {
+                return entry.result();
+            }
+            if (entry.result().succeeded() && now < entry.staleUntil()) {
+                refresh(didKey);
+                return entry.result();
+            }
+        }
+        return load(didKey);
+    }
+
+    /**
+     * Drops the cached document of the DID, for example after its controller rotated its keys.
+     */
+    public void evict(String didKey) {
+        synchronized (documents) {
+            documents.remove(didKey);
+        }
+    }
+
+    private void refresh(String didKey) {
+        if (refreshing.add(didKey)) {
+            refresher.execute(() -> {
+                try {
+                    var result = load(didKey);
+                    if (result.failed()) {
+                        monitor.warning("Failed to refresh DID document %s, serving the cached one: %s".formatted(didKey, result.getFailureDetail()));
+                    }
+                } catch (RuntimeException e) {
+                    monitor.warning("Failed to refresh DID document %s, serving the cached one".formatted(didKey), e);
+                } finally {
+                    refreshing.remove(didKey);
+                }
+            });
+        }
+    }
+
+    private Result<DidDocument> load(String didKey) {
+        var future = new CompletableFuture<Result<DidDocument>>();
+        var running = inflight.putIfAbsent(didKey, future);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            var result = delegate.resolve(didKey);
+            store(didKey, result);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(didKey, future);
+        }
+    }
+
+    private void store(String didKey, Result<DidDocument> result) {
+        var now = clock.millis();
+        synchronized (documents) {
+            if (result.succeeded()) {
+                var freshUntil = now + SECONDS.toMillis(config.ttl());
+                documents.put(didKey, new Entry(result, freshUntil, freshUntil + SECONDS.toMillis(config.maxStale())));
+                return;
+            }
+            var cached = documents.get(didKey);
+            if (cached == null || cached.result().failed() || now >= cached.staleUntil()) {
+                var freshUntil = now + SECONDS.toMillis(config.negativeTtl());
+                documents.put(didKey, new Entry(result, freshUntil, freshUntil));
+            }
+        }
+    }
+
+    private record Entry(Result<DidDocument> result, long freshUntil, long staleUntil) {
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.did.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record DidResolutionCacheConfig(
+        @Setting(key = "edc.iam.did.cache.enabled", description = "Whether resolved DID documents are cached", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.iam.did.cache.max-entries", description = "Max number of DID documents kept in memory", defaultValue = "1000")
+        int maxEntries,
+        @Setting(key = "edc.iam.did.cache.ttl", description = "Time in seconds a resolved DID document is served without being resolved again", defaultValue = "300")
+        long ttl,
+        @Setting(key = "edc.iam.did.cache.negative-ttl", description = "Time in seconds a failed resolution is served before the DID is resolved again", defaultValue = "30")
+        long negativeTtl,
+        @Setting(key = "edc.iam.did.cache.max-stale", description = "Time in seconds past its TTL a DID document is still served while it is refreshed in the background, " +
+                "or while its resolution keeps failing", defaultValue = "3600")
+        long maxStale
+) {
+
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.did.cache;
+
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.edc.virtual.controlplane.iam.did.cache.DidResolutionCacheExtension.NAME;
+
+@Provides(DidResolverRegistry.class)
+@Extension(NAME)
+public class DidResolutionCacheExtension implements ServiceExtension {
+
+    public static final String NAME = "DID Resolution Cache";
+
+    @Inject
+    private DidResolverRegistry didResolverRegistry;
+    @Inject
+    private Monitor monitor;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private DidResolutionCacheConfig config;
+
+    private ExecutorService refresher;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (config.enabled()) {
+            refresher = Executors.newSingleThreadExecutor(r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName("DidDocumentRefresher");
+                return thread;
+            });
+            context.registerService(DidResolverRegistry.class, new CachingDidResolverRegistry(didResolverRegistry, config, refresher, clock,
+                    monitor.withPrefix("DidResolutionCache")));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.did.cache;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDidResolverRegistryTest {
+
+    private static final String DID = "did:web:provider";
+
+    private final DidResolverRegistry delegate = mock();
+    private final Clock clock = mock();
+    private final Executor refresher = mock();
+    private final CachingDidResolverRegistry registry = new CachingDidResolverRegistry(delegate,
+            new DidResolutionCacheConfig(true, 100, 300, 30, 3600), refresher, clock, mock(Monitor.class));
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    @Test
+    void resolve_shouldServeFromCache_withinTtl() {
+        var document = document();
+        when(delegate.resolve(DID)).thenReturn(Result.success(document));
+
+        registry.resolve(DID);
+        when(clock.millis()).thenReturn(299_000L);
+
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+        verify(delegate, times(1)).resolve(DID);
+        verify(refresher, never()).execute(any());
+    }
+
+    @Test
+    void resolve_shouldServeStaleAndRefresh_afterTtl() {
+        var document = document();
+        when(delegate.resolve(DID)).thenReturn(Result.success(document));
+        registry.resolve(DID);
+        when(clock.millis()).thenReturn(300_000L);
+
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+
+        verify(delegate, times(1)).resolve(DID);
+        verify(refresher, times(1)).execute(any());
+    }
+
+    @Test
+    void resolve_shouldKeepStaleDocument_whenRefreshFails() {
+        var registry = new CachingDidResolverRegistry(delegate, new DidResolutionCacheConfig(true, 100, 300, 30, 3600),
+                Runnable::run, clock, mock(Monitor.class));
+        var document = document();
+        when(delegate.resolve(DID)).thenReturn(Result.success(document)).thenReturn(Result.failure("unavailable"));
+        registry.resolve(DID);
+        when(clock.millis()).thenReturn(300_000L);
+
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+        verify(delegate, times(3)).resolve(DID);
+    }
+
+    @Test
+    void resolve_shouldResolve_whenTooStale() {
+        when(delegate.resolve(DID)).thenReturn(Result.success(document()));
+        registry.resolve(DID);
+        when(clock.millis()).thenReturn(3_900_000L);
+
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolve(DID);
+    }
+
+    @Test
+    void resolve_shouldCacheFailure_forNegativeTtl() {
+        when(delegate.resolve(DID)).thenReturn(Result.failure("not found"));
+
+        assertThat(registry.resolve(DID).failed()).isTrue();
+        when(clock.millis()).thenReturn(29_000L);
+        assertThat(registry.resolve(DID).failed()).isTrue();
+        when(clock.millis()).thenReturn(30_000L);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolve(DID);
+    }
+
+    @Test
+    void resolve_shouldDeduplicateConcurrentResolutions() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(delegate.resolve(DID)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Result.success(document());
+        });
+
+        var first = CompletableFuture.supplyAsync(() -> registry.resolve(DID));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = CompletableFuture.supplyAsync(() -> registry.resolve(DID));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getContent()).isSameAs(second.get(5, TimeUnit.SECONDS).getContent());
+        verify(delegate, times(1)).resolve(DID);
+    }
+
+    private DidDocument document() {
+        return DidDocument.Builder.newInstance().id(DID).build();
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.validation;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record ParallelCredentialValidationConfig(
+        @Setting(key = "edc.iam.credential.validation.parallel.enabled", description = "Whether the presentations of a verification are validated in parallel", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.iam.credential.validation.parallel.threads", description = "Number of threads shared by all parallel verifications", defaultValue = "8")
+        int threads
+) {
+
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.validation;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidationService;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.eclipse.edc.virtual.controlplane.iam.validation.ParallelCredentialValidationExtension.NAME;
+
+@Provides(VerifiableCredentialValidationService.class)
+@Extension(NAME)
+public class ParallelCredentialValidationExtension implements ServiceExtension {
+
+    public static final String NAME = "Parallel Credential Validation";
+
+    @Inject
+    private VerifiableCredentialValidationService validationService;
+
+    @Configuration
+    private ParallelCredentialValidationConfig config;
+
+    private ExecutorService executor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (config.enabled()) {
+            var threads = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(config.threads(), r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName("CredentialValidation-" + threads.incrementAndGet());
+                return thread;
+            });
+            context.registerService(VerifiableCredentialValidationService.class,
+                    new ParallelCredentialValidationService(validationService, executor));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
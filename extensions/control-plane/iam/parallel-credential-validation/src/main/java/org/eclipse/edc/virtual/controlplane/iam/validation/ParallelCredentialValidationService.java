@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.validation;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidationService;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentationContainer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.validation.CredentialValidationRule;
+import org.eclipse.edc.spi.result.Result;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link VerifiableCredentialValidationService} that validates the presentations of a verification in parallel on a
+ * bounded executor.
+ * <p>
+ * Each presentation goes through the whole validation of the delegate on its own, so the status of its credentials is
+ * only checked once its signature and issuers are verified, and the status lists of different presentations are
+ * fetched concurrently. A verification with a single presentation is handed to the delegate as is. The verification
+ * fails as soon as one presentation fails; the validation of the other presentations is not interrupted, and its
+ * outcome is ignored.
+ * <p>
+ * The credentials of one presentation are validated one after the other by the delegate. Checking them in parallel
+ * would require taking over the validation of the delegate, which verifies the presentation proof and then applies
+ * its own and the additional rules to each credential, rather than decorating it.
+ */
+public class ParallelCredentialValidationService implements VerifiableCredentialValidationService {
+
+    private final VerifiableCredentialValidationService delegate;
+    private final Executor executor;
+
+    public ParallelCredentialValidationService(VerifiableCredentialValidationService delegate, Executor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public Result<Void> validate(List<VerifiablePresentationContainer> presentations, Collection<? extends CredentialValidationRule> additionalValidationRules) {
+        if (presentations.size() < 2) {
+            return delegate.validate(presentations, additionalValidationRules);
+        }
+
+        var firstFailure = new CompletableFuture<Result<Void>>();
+        var futures = presentations.stream()
+                .map(presentation -> CompletableFuture.supplyAsync(() -> delegate.validate(List.of(presentation), additionalValidationRules), executor)
+                        .whenComplete((result, throwable) -> {
+                            if (throwable != null) {
+                                firstFailure.complete(Result.failure(throwable.getMessage()));
+                            } else if (result.failed()) {
+                                firstFailure.complete(result);
+                            }
+                        }))
+                .toArray(CompletableFuture[]::new);
+        var allSucceeded = CompletableFuture.allOf(futures)
+                .handle((nothing, throwable) -> throwable == null ? Result.<Void>success() : Result.<Void>failure(throwable.getMessage()));
+
+        return firstFailure.applyToEither(allSucceeded, outcome -> outcome).join();
+    }
+}
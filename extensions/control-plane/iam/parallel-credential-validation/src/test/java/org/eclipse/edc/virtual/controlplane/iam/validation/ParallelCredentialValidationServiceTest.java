@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.validation;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidationService;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentation;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentationContainer;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat.VC1_0_JWT;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelCredentialValidationServiceTest {
+
+    private final VerifiableCredentialValidationService delegate = mock();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final ParallelCredentialValidationService validationService = new ParallelCredentialValidationService(delegate, executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void validate_shouldValidateEachPresentation() {
+        var first = presentation();
+        var second = presentation();
+        when(delegate.validate(anyList(), any())).thenReturn(Result.success());
+
+        var result = validationService.validate(List.of(first, second), List.of());
+
+        assertThat(result.succeeded()).isTrue();
+        verify(delegate).validate(eq(List.of(first)), any());
+        verify(delegate).validate(eq(List.of(second)), any());
+    }
+
+    @Test
+    void validate_shouldFailWithoutWaitingForOtherPresentations_whenOneFails() {
+        var slow = presentation();
+        var invalid = presentation();
+        var release = new CountDownLatch(1);
+        when(delegate.validate(eq(List.of(slow)), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Result.success();
+        });
+        when(delegate.validate(eq(List.of(invalid)), any())).thenReturn(Result.failure("revoked"));
+
+        var presentations = List.of(slow, invalid);
+
+        var result = assertTimeout(Duration.ofSeconds(5), () -> validationService.validate(presentations, List.of()));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains("revoked");
+        release.countDown();
+    }
+
+    @Test
+    void validate_shouldDelegate_whenSinglePresentation() {
+        var presentations = List.of(presentation());
+        when(delegate.validate(anyList(), any())).thenReturn(Result.success());
+
+        assertThat(validationService.validate(presentations, List.of()).succeeded()).isTrue();
+
+        verify(delegate).validate(eq(presentations), any());
+    }
+
+    private VerifiablePresentationContainer presentation() {
+        var presentation = mock(VerifiablePresentation.class);
+        when(presentation.getCredentials()).thenReturn(List.of(mock(VerifiableCredential.class)));
+        return new VerifiablePresentationContainer("raw", VC1_0_JWT, presentation);
+    }
+}
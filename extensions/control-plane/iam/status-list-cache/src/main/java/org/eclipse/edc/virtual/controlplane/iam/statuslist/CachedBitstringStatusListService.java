@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.statuslist;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link RevocationListService} for {@code BitstringStatusListEntry} statuses that looks the status bit up in the
+ * lists of a {@link StatusListCache}. Only single-bit statuses are supported: entries with a {@code statusSize} other
+ * than 1 are rejected. As with the upstream bitstring status list service, the proof of the status list credential is
+ * not verified.
+ */
+class CachedBitstringStatusListService implements RevocationListService {
+
+    static final String TYPE = "BitstringStatusListEntry";
+
+    private final StatusListCache cache;
+
+    CachedBitstringStatusListService(StatusListCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Result<Void> checkValidity(CredentialStatus credentialStatus) {
+        return status(credentialStatus)
+                .compose(status -> status.isSet() ?
+                        Result.failure("Credential status is set for purpose '%s'".formatted(status.purpose())) :
+                        Result.success());
+    }
+
+    @Override
+    public Result<String> getStatusPurpose(VerifiableCredential verifiableCredential) {
+        for (var credentialStatus : verifiableCredential.getCredentialStatus()) {
+            if (!TYPE.equals(credentialStatus.type())) {
+                continue;
+            }
+            var status = status(credentialStatus);
+            if (status.failed()) {
+                return Result.failure(status.getFailureDetail());
+            }
+            if (status.getContent().isSet()) {
+                return Result.success(status.getContent().purpose());
+            }
+        }
+        return Result.success(null);
+    }
+
+    private Result<Status> status(CredentialStatus credentialStatus) {
+        var properties = credentialStatus.additionalProperties();
+        var url = property(properties, "statusListCredential");
+        var index = property(properties, "statusListIndex");
+        if (url == null || index == null) {
+            return Result.failure("Credential status %s has no status list credential or index".formatted(credentialStatus.id()));
+        }
+        var size = property(properties, "statusSize");
+        if (size != null && !"1".equals(size)) {
+            return Result.failure("Unsupported status size %s of credential status %s, only 1 is supported".formatted(size, credentialStatus.id()));
+        }
+        long position;
+        try {
+            position = Long.parseLong(index);
+        } catch (NumberFormatException e) {
+            return Result.failure("Invalid status list index: " + index);
+        }
+        var purpose = property(properties, "statusPurpose");
+        return cache.get(url).compose(list -> {
+            if (purpose != null && !purpose.equals(list.purpose())) {
+                return Result.failure("Status purpose '%s' does not match the purpose '%s' of the status list".formatted(purpose, list.purpose()));
+            }
+            try {
+                return Result.success(new Status(list.isSet(position), list.purpose()));
+            } catch (IllegalArgumentException e) {
+                return Result.failure(e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Reads a property by its name, whether it was kept compact or expanded to an IRI ending with {@code #name},
+     * unwrapping JSON-LD value and node objects.
+     */
+    private static @Nullable String property(Map<String, Object> properties, String name) {
+        return properties.entrySet().stream()
+                .filter(entry -> entry.getKey().equals(name) || entry.getKey().endsWith("#" + name))
+                .map(entry -> value(entry.getValue()))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static @Nullable String value(Object value) {
+        if (value instanceof List<?> list) {
+            return list.isEmpty() ? null : value(list.get(0));
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value(map.containsKey("@value") ? map.get("@value") : map.get("@id"));
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private record Status(boolean isSet, String purpose) {
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.statuslist;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A decoded status list, with the validators of the response it was read from.
+ *
+ * @param bits         the decompressed bitstring, the status of index 0 being the most significant bit of the first byte
+ * @param purpose      the status purpose of the list, e.g. {@code revocation}
+ * @param etag         the {@code ETag} of the response, if any
+ * @param lastModified the {@code Last-Modified} of the response, if any
+ * @param validUntil   time in millis after which the status list credential is expired, {@link Long#MAX_VALUE} if none
+ * @param ttl          time in millis the list may be used for once fetched, as stated by the list, 0 if none
+ * @param expiresAt    time in millis after which the list must be revalidated
+ */
+record StatusList(byte[] bits, String purpose, @Nullable String etag, @Nullable String lastModified, long validUntil, long ttl,
+                  long expiresAt) {
+
+    boolean isSet(long index) {
+        if (index < 0 || index / 8 >= bits.length) {
+            throw new IllegalArgumentException("Status list index %d out of bounds".formatted(index));
+        }
+        return (bits[(int) (index / 8)] >> (7 - (int) (index % 8)) & 1) == 1;
+    }
+
+    StatusList revalidated(long expiresAt) {
+        return new StatusList(bits, purpose, etag, lastModified, validUntil, ttl, expiresAt);
+    }
+}
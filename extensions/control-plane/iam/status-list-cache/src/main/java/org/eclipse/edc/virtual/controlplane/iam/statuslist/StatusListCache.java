@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.statuslist;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jwt.JWTParser;
+import okhttp3.Request;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.result.Result;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Status lists of bitstring status list credentials, fetched once and kept decoded in memory.
+ * <p>
+ * A list is used until the earliest of the configured TTL, the {@code ttl} of the list and the expiry of its
+ * credential. It is then revalidated with {@code If-None-Match} and {@code If-Modified-Since}: an unchanged list
+ * is kept without being downloaded and decoded again. Lists whose credential has expired are rejected. Concurrent
+ * fetches of the same list share one request.
+ */
+class StatusListCache {
+
+    /**
+     * Max size of a decompressed status list, i.e. 128 million statuses.
+     */
+    static final int MAX_LIST_BYTES = 16 * 1024 * 1024;
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final EdcHttpClient httpClient;
+    private final ObjectMapper mapper;
+    private final StatusListCacheConfig config;
+    private final Clock clock;
+    private final Map<String, StatusList> lists;
+    private final Map<String, CompletableFuture<Result<StatusList>>> inflight = new ConcurrentHashMap<>();
+
+    StatusListCache(EdcHttpClient httpClient, ObjectMapper mapper, StatusListCacheConfig config, Clock clock) {
+        this.httpClient = httpClient;
+        this.mapper = mapper;
+        this.config = config;
+        this.clock = clock;
+        this.lists = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StatusList> eldest) {
+                return size() > config.maxEntries();
+            }
+        };
+    }
+
+    /**
+     * Returns the status list of the status list credential at the URL.
+     */
+    Result<StatusList> get(String url) {
+        StatusList cached;
+        synchronized (lists) {
+            cached = lists.get(url);
+        }
+        if (cached != null && clock.millis() < cached.expiresAt()) {
+            return Result.success(cached);
+        }
+
+        var future = new CompletableFuture<Result<StatusList>>();
+        var running = inflight.putIfAbsent(url, future);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            var result = fetch(url, cached);
+            if (result.succeeded()) {
+                synchronized (lists) {
+                    lists.put(url, result.getContent());
+                }
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(url, future);
+        }
+    }
+
+    private Result<StatusList> fetch(String url, StatusList cached) {
+        var request = new Request.Builder().url(url).get()
+                .header("Accept", "application/vc+jwt, application/vc+ld+json, application/json");
+        if (cached != null && cached.etag() != null) {
+            request.header("If-None-Match", cached.etag());
+        }
+        if (cached != null && cached.lastModified() != null) {
+            request.header("If-Modified-Since", cached.lastModified());
+        }
+        try (var response = httpClient.execute(request.build())) {
+            if (response.code() == 304 && cached != null) {
+                if (cached.validUntil() <= clock.millis()) {
+                    return Result.failure("Status list credential %s has expired".formatted(url));
+                }
+                return Result.success(cached.revalidated(expiresAt(cached.validUntil(), cached.ttl())));
+            }
+            if (!response.isSuccessful() || response.body() == null) {
+                return Result.failure("Failed to fetch status list credential %s: HTTP %d".formatted(url, response.code()));
+            }
+            return parse(response.body().string(), response.header("ETag"), response.header("Last-Modified"));
+        } catch (IOException e) {
+            return Result.failure("Failed to fetch status list credential %s: %s".formatted(url, e.getMessage()));
+        }
+    }
+
+    private Result<StatusList> parse(String body, String etag, String lastModified) {
+        Map<String, Object> credential;
+        var validUntil = Long.MAX_VALUE;
+        try {
+            var content = body.trim();
+            if (content.startsWith("{")) {
+                credential = mapper.readValue(content, MAP_TYPE);
+            } else {
+                var claims = JWTParser.parse(content).getJWTClaimsSet();
+                if (claims.getExpirationTime() != null) {
+                    validUntil = claims.getExpirationTime().getTime();
+                }
+                credential = claims.getClaim("vc") instanceof Map<?, ?> vc ? mapper.convertValue(vc, MAP_TYPE) : claims.getClaims();
+            }
+        } catch (IOException | ParseException e) {
+            return Result.failure("Invalid status list credential: " + e.getMessage());
+        }
+
+        var subject = credential.get("credentialSubject") instanceof List<?> subjects && !subjects.isEmpty() ?
+                subjects.get(0) : credential.get("credentialSubject");
+        if (!(subject instanceof Map<?, ?> credentialSubject) || !(credentialSubject.get("encodedList") instanceof String encodedList)) {
+            return Result.failure("Status list credential has no encoded list");
+        }
+        validUntil = Math.min(validUntil, expiry(credential.get("validUntil"), validUntil));
+        validUntil = Math.min(validUntil, expiry(credential.get("expirationDate"), validUntil));
+        if (validUntil <= clock.millis()) {
+            return Result.failure("Status list credential has expired");
+        }
+        var ttl = credentialSubject.get("ttl") instanceof Number listTtl ? listTtl.longValue() : 0L;
+
+        try {
+            return Result.success(new StatusList(decode(encodedList), String.valueOf(credentialSubject.get("statusPurpose")), etag, lastModified,
+                    validUntil, ttl, expiresAt(validUntil, ttl)));
+        } catch (IOException | IllegalArgumentException e) {
+            return Result.failure("Invalid encoded status list: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the time the list must be revalidated at if fetched now: the earliest of the configured TTL, the ttl of
+     * the list and the expiry of its credential.
+     */
+    private long expiresAt(long validUntil, long ttl) {
+        var now = clock.millis();
+        var expiresAt = Math.min(now + SECONDS.toMillis(config.ttl()), validUntil);
+        return ttl > 0 ? Math.min(expiresAt, now + ttl) : expiresAt;
+    }
+
+    private long expiry(Object validUntil, long fallback) {
+        if (validUntil instanceof String date) {
+            try {
+                return Instant.parse(date).toEpochMilli();
+            } catch (DateTimeParseException e) {
+                return fallback;
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Decodes a multibase base64url encoded, GZIP compressed bitstring. Lists encoded with the standard alphabet and
+     * without multibase prefix, as in status list 2021, are accepted too. Lists larger than {@link #MAX_LIST_BYTES}
+     * once decompressed are rejected.
+     */
+    static byte[] decode(String encodedList) throws IOException {
+        var encoded = encodedList.startsWith("u") ? encodedList.substring(1) : encodedList;
+        byte[] compressed;
+        try {
+            compressed = Base64.getUrlDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            compressed = Base64.getDecoder().decode(encoded);
+        }
+        try (var input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            var bits = input.readNBytes(MAX_LIST_BYTES + 1);
+            if (bits.length > MAX_LIST_BYTES) {
+                throw new IOException("Status list exceeds %d bytes".formatted(MAX_LIST_BYTES));
+            }
+            return bits;
+        }
+    }
+}
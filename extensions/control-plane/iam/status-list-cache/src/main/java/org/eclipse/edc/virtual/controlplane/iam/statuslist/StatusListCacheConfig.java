@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.statuslist;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record StatusListCacheConfig(
+        @Setting(key = "edc.iam.statuslist.cache.enabled", description = "Whether bitstring status lists are cached decoded in memory and revalidated with conditional requests", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.iam.statuslist.cache.max-entries", description = "Max number of status lists kept in memory", defaultValue = "100")
+        int maxEntries,
+        @Setting(key = "edc.iam.statuslist.cache.ttl", description = "Max time in seconds a status list is used before being revalidated, unless the status list credential expires earlier", defaultValue = "300")
+        long ttl
+) {
+
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.statuslist;
+
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.virtual.controlplane.iam.statuslist.StatusListCacheExtension.NAME;
+
+@Extension(NAME)
+public class StatusListCacheExtension implements ServiceExtension {
+
+    public static final String NAME = "Status List Cache";
+
+    @Inject
+    private RevocationServiceRegistry revocationServiceRegistry;
+    @Inject
+    private EdcHttpClient httpClient;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private StatusListCacheConfig config;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * Registers the cached service once all extensions are initialized, so that it replaces the default
+     * {@code BitstringStatusListEntry} service.
+     */
+    @Override
+    public void prepare() {
+        if (config.enabled()) {
+            var cache = new StatusListCache(httpClient, typeManager.getMapper(), config, clock);
+            revocationServiceRegistry.addService(CachedBitstringStatusListService.TYPE, new CachedBitstringStatusListService(cache));
+        }
+    }
+}
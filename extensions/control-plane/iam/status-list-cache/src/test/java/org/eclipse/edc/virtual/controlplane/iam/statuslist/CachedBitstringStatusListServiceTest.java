@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.statuslist;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import dev.failsafe.RetryPolicy;
+import okhttp3.OkHttpClient;
+import org.eclipse.edc.http.client.EdcHttpClientImpl;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CachedBitstringStatusListServiceTest {
+
+    @RegisterExtension
+    static WireMockExtension issuer = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private final Clock clock = mock();
+    private final StatusListCache cache = new StatusListCache(
+            new EdcHttpClientImpl(new OkHttpClient(), RetryPolicy.ofDefaults(), mock(Monitor.class)),
+            new ObjectMapper(), new StatusListCacheConfig(true, 10, 300), clock);
+    private final CachedBitstringStatusListService service = new CachedBitstringStatusListService(cache);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(clock.millis()).thenReturn(0L);
+        issuer.stubFor(get("/status/1").willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/vc+ld+json")
+                .withHeader("ETag", "\"v1\"")
+                .withBody(statusListCredential(42, "2100-01-01T00:00:00Z"))));
+    }
+
+    @Test
+    void checkValidity_shouldFail_whenStatusBitSet() {
+        assertThat(service.checkValidity(status(42)).failed()).isTrue();
+        assertThat(service.checkValidity(status(43)).succeeded()).isTrue();
+
+        issuer.verify(1, getRequestedFor(urlEqualTo("/status/1")));
+    }
+
+    @Test
+    void checkValidity_shouldRevalidateWithEtag_whenExpired() {
+        service.checkValidity(status(42));
+        var list = cache.get(issuer.baseUrl() + "/status/1").getContent();
+        issuer.stubFor(get("/status/1").withHeader("If-None-Match", equalTo("\"v1\"")).willReturn(aResponse().withStatus(304)));
+        when(clock.millis()).thenReturn(300_000L);
+
+        assertThat(service.checkValidity(status(42)).failed()).isTrue();
+
+        assertThat(cache.get(issuer.baseUrl() + "/status/1").getContent().bits()).isSameAs(list.bits());
+        issuer.verify(2, getRequestedFor(urlEqualTo("/status/1")));
+    }
+
+    @Test
+    void checkValidity_shouldFail_whenCredentialExpiredAndListNotModified() throws IOException {
+        issuer.stubFor(get("/status/1").willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("ETag", "\"v1\"")
+                .withBody(statusListCredential(42, "1970-01-01T00:10:00Z"))));
+        assertThat(service.checkValidity(status(43)).succeeded()).isTrue();
+        issuer.stubFor(get("/status/1").withHeader("If-None-Match", equalTo("\"v1\"")).willReturn(aResponse().withStatus(304)));
+
+        when(clock.millis()).thenReturn(300_000L);
+        assertThat(service.checkValidity(status(43)).succeeded()).isTrue();
+        when(clock.millis()).thenReturn(600_000L);
+        assertThat(service.checkValidity(status(43)).failed()).isTrue();
+    }
+
+    @Test
+    void decode_shouldReject_whenListTooLarge() throws IOException {
+        var compressed = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(new byte[StatusListCache.MAX_LIST_BYTES + 1]);
+        }
+        var encodedList = "u" + Base64.getUrlEncoder().withoutPadding().encodeToString(compressed.toByteArray());
+
+        assertThatThrownBy(() -> StatusListCache.decode(encodedList)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void getStatusPurpose_shouldReturnPurpose_whenStatusBitSet() {
+        var credential = mock(VerifiableCredential.class);
+        when(credential.getCredentialStatus()).thenReturn(List.of(status(42)));
+
+        assertThat(service.getStatusPurpose(credential).getContent()).isEqualTo("revocation");
+    }
+
+    @Test
+    void checkValidity_shouldFail_whenStatusListUnavailable() {
+        issuer.stubFor(get("/status/1").willReturn(aResponse().withStatus(503)));
+
+        assertThat(service.checkValidity(status(42)).failed()).isTrue();
+    }
+
+    @Test
+    void checkValidity_shouldFail_whenStatusSizeIsNotOne() {
+        var status = new CredentialStatus("status-43", CachedBitstringStatusListService.TYPE, Map.of(
+                "statusPurpose", "revocation",
+                "statusListIndex", "43",
+                "statusSize", 2,
+                "statusListCredential", issuer.baseUrl() + "/status/1"));
+
+        assertThat(service.checkValidity(status).failed()).isTrue();
+        issuer.verify(0, getRequestedFor(urlEqualTo("/status/1")));
+    }
+
+    private CredentialStatus status(long index) {
+        return new CredentialStatus("status-" + index, CachedBitstringStatusListService.TYPE, Map.of(
+                "statusPurpose", "revocation",
+                "statusListIndex", String.valueOf(index),
+                "statusListCredential", issuer.baseUrl() + "/status/1"));
+    }
+
+    private String statusListCredential(int revokedIndex, String validUntil) throws IOException {
+        var bits = new byte[16 * 1024];
+        bits[revokedIndex / 8] |= (byte) (1 << (7 - revokedIndex % 8));
+        var compressed = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bits);
+        }
+        var encodedList = "u" + Base64.getUrlEncoder().withoutPadding().encodeToString(compressed.toByteArray());
+        return new ObjectMapper().writeValueAsString(Map.of(
+                "type", List.of("VerifiableCredential", "BitstringStatusListCredential"),
+                "validUntil", validUntil,
+                "credentialSubject", Map.of(
+                        "type", "BitstringStatusList",
+                        "statusPurpose", "revocation",
+                        "encodedList", encodedList)));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.sts.cache;
+
+import com.nimbusds.jwt.JWTParser;
+import org.eclipse.edc.iam.decentralizedclaims.spi.SecureTokenService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link SecureTokenService} that reuses the tokens it obtained for the same participant context, claims and bearer
+ * access scope.
+ * <p>
+ * Claims that differ between two otherwise identical requests ({@code jti}, {@code iat}, {@code nbf}, {@code exp})
+ * are not part of the key. A token is reused until its remaining validity drops under the min validity. Once it
+ * drops under the refresh-ahead threshold, a new token is obtained in the background while the current one is still
+ * handed out. Concurrent requests for the same key share one call to the STS.
+ */
+public class CachingSecureTokenService implements SecureTokenService {
+
+    private static final Set<String> VOLATILE_CLAIMS = Set.of("jti", "iat", "nbf", "exp");
+
+    private final SecureTokenService delegate;
+    private final StsTokenCacheConfig config;
+    private final Executor refresher;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Map<Key, Entry> tokens;
+    private final Map<Key, CompletableFuture<Result<TokenRepresentation>>> inflight = new ConcurrentHashMap<>();
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+
+    public CachingSecureTokenService(SecureTokenService delegate, StsTokenCacheConfig config, Executor refresher, Clock clock, Monitor monitor) {
+        this.delegate = delegate;
+        this.config = config;
+        this.refresher = refresher;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.tokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > config.maxEntries();
+            }
+        };
+    }
+
+    @Override
+    public Result<TokenRepresentation> createToken(String participantContextId, Map<String, Object> claims, @Nullable String bearerAccessScope) {
+        var key = key(participantContextId, claims, bearerAccessScope);
+        var now = clock.millis();
+        Entry entry;
+        synchronized (tokens) {
+            entry = tokens.get(key);
+        }
+        if (entry != null && entry.expiresAt() - now > SECONDS.toMillis(config.minValidity())) {
+            if (entry.expiresAt() - now <= SECONDS.toMillis(config.refreshAhead())) {
+                refresh(key, participantContextId, claims, bearerAccessScope);
+            }
+            return Result.success(entry.token());
+        }
+        return load(key, participantContextId, claims, bearerAccessScope);
+    }
+
+    private void refresh(Key key, String participantContextId, Map<String, Object> claims, String bearerAccessScope) {
+        if (refreshing.add(key)) {
+            refresher.execute(() -> {
+                try {
+                    var result = load(key, participantContextId, claims, bearerAccessScope);
+                    if (result.failed()) {
+                        monitor.warning("Failed to renew STS token ahead of its expiry: %s".formatted(result.getFailureDetail()));
+                    }
+                } catch (RuntimeException e) {
+                    monitor.warning("Failed to renew STS token ahead of its expiry", e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        }
+    }
+
+    private Result<TokenRepresentation> load(Key key, String participantContextId, Map<String, Object> claims, String bearerAccessScope) {
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        var running = inflight.putIfAbsent(key, future);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            var result = delegate.createToken(participantContextId, claims, bearerAccessScope);
+            if (result.succeeded()) {
+                var expiresAt = expiresAt(result.getContent());
+                if (expiresAt != null) {
+                    synchronized (tokens) {
+                        tokens.put(key, new Entry(result.getContent(), expiresAt));
+                    }
+                }
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, future);
+        }
+    }
+
+    private @Nullable Long expiresAt(TokenRepresentation token) {
+        try {
+            var expiration = JWTParser.parse(token.getToken()).getJWTClaimsSet().getExpirationTime();
+            return expiration == null ? null : expiration.getTime();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private Key key(String participantContextId, Map<String, Object> claims, String bearerAccessScope) {
+        var stable = new TreeMap<String, String>();
+        claims.forEach((name, value) -> {
+            if (!VOLATILE_CLAIMS.contains(name)) {
+                stable.put(name, String.valueOf(value));
+            }
+        });
+        return new Key(participantContextId, stable.toString(), bearerAccessScope);
+    }
+
+    private record Key(String participantContextId, String claims, String bearerAccessScope) {
+    }
+
+    private record Entry(TokenRepresentation token, long expiresAt) {
+    }
+}
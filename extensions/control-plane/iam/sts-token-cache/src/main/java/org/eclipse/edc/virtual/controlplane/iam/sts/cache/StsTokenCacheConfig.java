@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.sts.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record StsTokenCacheConfig(
+        @Setting(key = "edc.iam.sts.cache.enabled", description = "Whether self-issued tokens obtained from the STS are reused for the same participant context, audience and scopes. " +
+                "Only enable when counterparties do not reject reused token ids", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.iam.sts.cache.max-entries", description = "Max number of tokens kept in memory", defaultValue = "1000")
+        int maxEntries,
+        @Setting(key = "edc.iam.sts.cache.refresh-ahead", description = "Remaining validity in seconds under which a token is renewed in the background while still being used", defaultValue = "60")
+        long refreshAhead,
+        @Setting(key = "edc.iam.sts.cache.min-validity", description = "Remaining validity in seconds under which a token is no longer used, and a new one is obtained synchronously", defaultValue = "10")
+        long minValidity
+) {
+
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.sts.cache;
+
+import org.eclipse.edc.iam.decentralizedclaims.spi.SecureTokenService;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.edc.virtual.controlplane.iam.sts.cache.StsTokenCacheExtension.NAME;
+
+@Provides(SecureTokenService.class)
+@Extension(NAME)
+public class StsTokenCacheExtension implements ServiceExtension {
+
+    public static final String NAME = "STS Token Cache";
+
+    @Inject
+    private SecureTokenService secureTokenService;
+    @Inject
+    private Monitor monitor;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private StsTokenCacheConfig config;
+
+    private ExecutorService refresher;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (config.enabled()) {
+            refresher = Executors.newSingleThreadExecutor(r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName("StsTokenRefresher");
+                return thread;
+            });
+            context.registerService(SecureTokenService.class, new CachingSecureTokenService(secureTokenService, config, refresher, clock,
+                    monitor.withPrefix("StsTokenCache")));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.sts.cache;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import org.eclipse.edc.iam.decentralizedclaims.spi.SecureTokenService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingSecureTokenServiceTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    private final SecureTokenService delegate = mock();
+    private final Clock clock = mock();
+    private final Executor refresher = mock();
+    private final CachingSecureTokenService tokenService = new CachingSecureTokenService(delegate,
+            new StsTokenCacheConfig(true, 100, 60, 10), refresher, clock, mock(Monitor.class));
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(NOW);
+    }
+
+    @Test
+    void createToken_shouldReuseToken_forSameAudienceAndScope() {
+        var token = token(NOW + 300_000);
+        when(delegate.createToken(any(), anyMap(), any())).thenReturn(Result.success(token));
+
+        tokenService.createToken("participant", claims("did:web:provider", "jti-1"), "scope");
+        var result = tokenService.createToken("participant", claims("did:web:provider", "jti-2"), "scope");
+
+        assertThat(result.getContent()).isSameAs(token);
+        verify(delegate, times(1)).createToken(any(), anyMap(), any());
+        verify(refresher, never()).execute(any());
+    }
+
+    @Test
+    void createToken_shouldObtainToken_forOtherAudience() {
+        when(delegate.createToken(any(), anyMap(), any())).thenReturn(Result.success(token(NOW + 300_000)));
+
+        tokenService.createToken("participant", claims("did:web:provider", "jti-1"), "scope");
+        tokenService.createToken("participant", claims("did:web:other", "jti-2"), "scope");
+
+        verify(delegate, times(2)).createToken(any(), anyMap(), any());
+    }
+
+    @Test
+    void createToken_shouldRefreshInBackground_whenTokenAboutToExpire() {
+        var token = token(NOW + 300_000);
+        when(delegate.createToken(any(), anyMap(), any())).thenReturn(Result.success(token));
+        tokenService.createToken("participant", claims("did:web:provider", "jti-1"), "scope");
+        when(clock.millis()).thenReturn(NOW + 250_000);
+
+        assertThat(tokenService.createToken("participant", claims("did:web:provider", "jti-2"), "scope").getContent()).isSameAs(token);
+        tokenService.createToken("participant", claims("did:web:provider", "jti-3"), "scope");
+
+        verify(delegate, times(1)).createToken(any(), anyMap(), any());
+        verify(refresher, times(1)).execute(any());
+    }
+
+    @Test
+    void createToken_shouldObtainToken_whenBelowMinValidity() {
+        when(delegate.createToken(any(), anyMap(), any())).thenReturn(Result.success(token(NOW + 300_000)));
+        tokenService.createToken("participant", claims("did:web:provider", "jti-1"), "scope");
+        when(clock.millis()).thenReturn(NOW + 290_000);
+
+        tokenService.createToken("participant", claims("did:web:provider", "jti-2"), "scope");
+
+        verify(delegate, times(2)).createToken(eq("participant"), anyMap(), eq("scope"));
+    }
+
+    @Test
+    void createToken_shouldNotCacheFailure() {
+        when(delegate.createToken(any(), anyMap(), any())).thenReturn(Result.failure("sts unavailable"));
+
+        tokenService.createToken("participant", claims("did:web:provider", "jti-1"), "scope");
+        tokenService.createToken("participant", claims("did:web:provider", "jti-2"), "scope");
+
+        verify(delegate, times(2)).createToken(any(), anyMap(), any());
+    }
+
+    private Map<String, Object> claims(String audience, String jti) {
+        return Map.of("iss", "did:web:consumer", "sub", "did:web:consumer", "aud", audience, "jti", jti);
+    }
+
+    private TokenRepresentation token(long expiresAt) {
+        var jwt = new PlainJWT(new JWTClaimsSet.Builder().issuer("did:web:consumer").expirationTime(new Date(expiresAt)).build());
+        return TokenRepresentation.Builder.newInstance().token(jwt.serialize()).build();
+    }
+}
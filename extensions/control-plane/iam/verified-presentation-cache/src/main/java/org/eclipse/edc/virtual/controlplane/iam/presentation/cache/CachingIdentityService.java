@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.presentation.cache;
+
+import com.nimbusds.jwt.JWTParser;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.iam.VerificationContext;
+import org.eclipse.edc.spi.result.Result;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link IdentityService} that reuses the claims of tokens it verified before.
+ * <p>
+ * Successful verifications are cached by participant context, SHA-256 hash of the token and requested scopes. A
+ * cached verification is reused until the earliest of the expiry of the token, the expiry of its credentials, and
+ * the configured TTL, bounded by the revocation TTL when one of the credentials has a status. Failed verifications
+ * are not cached.
+ */
+public class CachingIdentityService implements IdentityService {
+
+    static final String VC_CLAIM = "vc";
+
+    private final IdentityService delegate;
+    private final PresentationCacheConfig config;
+    private final Clock clock;
+    private final Map<Key, Entry> verified;
+
+    public CachingIdentityService(IdentityService delegate, PresentationCacheConfig config, Clock clock) {
+        this.delegate = delegate;
+        this.config = config;
+        this.clock = clock;
+        this.verified = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > config.maxEntries();
+            }
+        };
+    }
+
+    @Override
+    public Result<TokenRepresentation> obtainClientCredentials(String participantContextId, TokenParameters parameters) {
+        return delegate.obtainClientCredentials(participantContextId, parameters);
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(String participantContextId, TokenRepresentation tokenRepresentation, VerificationContext context) {
+        var key = new Key(participantContextId, hash(tokenRepresentation.getToken()), String.join(" ", new TreeSet<>(context.getScopes())));
+        var now = clock.millis();
+        synchronized (verified) {
+            var entry = verified.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    return Result.success(entry.claims());
+                }
+                verified.remove(key);
+            }
+        }
+
+        var result = delegate.verifyJwtToken(participantContextId, tokenRepresentation, context);
+        if (result.succeeded()) {
+            var expiresAt = expiresAt(tokenRepresentation.getToken(), result.getContent(), now);
+            if (expiresAt > now) {
+                synchronized (verified) {
+                    verified.put(key, new Entry(result.getContent(), expiresAt));
+                }
+            }
+        }
+        return result;
+    }
+
+    private long expiresAt(String token, ClaimToken claims, long now) {
+        var expiresAt = now + SECONDS.toMillis(config.ttl());
+        try {
+            var expiration = JWTParser.parse(token).getJWTClaimsSet().getExpirationTime();
+            if (expiration == null) {
+                return now;
+            }
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        } catch (ParseException e) {
+            return now;
+        }
+        if (claims.getClaim(VC_CLAIM) instanceof List<?> credentials) {
+            for (var credential : credentials) {
+                if (credential instanceof VerifiableCredential vc) {
+                    if (vc.getExpirationDate() != null) {
+                        expiresAt = Math.min(expiresAt, vc.getExpirationDate().toEpochMilli());
+                    }
+                    if (vc.getCredentialStatus() != null && !vc.getCredentialStatus().isEmpty()) {
+                        expiresAt = Math.min(expiresAt, now + SECONDS.toMillis(config.revocationTtl()));
+                    }
+                }
+            }
+        }
+        return expiresAt;
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Key(String participantContextId, String tokenHash, String scopes) {
+    }
+
+    private record Entry(ClaimToken claims, long expiresAt) {
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.presentation.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record PresentationCacheConfig(
+        @Setting(key = "edc.iam.presentation.cache.enabled", description = "Whether the claims of verified tokens and presentations are cached, so that a token presented again is not verified again. " +
+                "Has no effect when edc.iam.accesstoken.jti.validation is enabled", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.iam.presentation.cache.max-entries", description = "Max number of verified tokens kept in memory", defaultValue = "10000")
+        int maxEntries,
+        @Setting(key = "edc.iam.presentation.cache.ttl", description = "Max time in seconds the claims of a verified token are reused, whatever the expiry of the token and its credentials", defaultValue = "600")
+        long ttl,
+        @Setting(key = "edc.iam.presentation.cache.revocation-ttl", description = "Max time in seconds the claims of a verified token are reused when one of its credentials has a status, " +
+                "so that revocations are taken into account. Should not exceed the validity of cached status lists", defaultValue = "300")
+        long revocationTtl
+) {
+
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.presentation.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.virtual.controlplane.iam.presentation.cache.PresentationCacheExtension.NAME;
+
+/**
+ * Decorates the {@link IdentityService} with a {@link CachingIdentityService}. The cache stays off when the DCP
+ * {@code jti} replay check is enabled, as a token presented again would be accepted from the cache instead of being
+ * rejected as a replay.
+ */
+@Provides(IdentityService.class)
+@Extension(NAME)
+public class PresentationCacheExtension implements ServiceExtension {
+
+    public static final String NAME = "Verified Presentation Cache";
+
+    static final String JTI_VALIDATION = "edc.iam.accesstoken.jti.validation";
+
+    @Inject
+    private IdentityService identityService;
+    @Inject
+    private Monitor monitor;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private PresentationCacheConfig config;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (!config.enabled()) {
+            return;
+        }
+        if (context.getConfig().getBoolean(JTI_VALIDATION, false)) {
+            monitor.warning("%s is ignored: cached verifications cannot be combined with %s".formatted(NAME, JTI_VALIDATION));
+            return;
+        }
+        context.registerService(IdentityService.class, new CachingIdentityService(identityService, config, clock));
+    }
+}
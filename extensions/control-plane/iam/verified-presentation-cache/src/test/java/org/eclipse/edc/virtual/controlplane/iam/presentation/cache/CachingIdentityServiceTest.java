@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.presentation.cache;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.iam.VerificationContext;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.virtual.controlplane.iam.presentation.cache.CachingIdentityService.VC_CLAIM;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingIdentityServiceTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    private final IdentityService delegate = mock();
+    private final Clock clock = mock();
+    private final VerificationContext context = mock();
+    private final CachingIdentityService identityService = new CachingIdentityService(delegate, new PresentationCacheConfig(true, 100, 600, 300), clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(NOW);
+        when(context.getScopes()).thenReturn(Set.of("org.eclipse.edc.vc.type:MembershipCredential:read"));
+    }
+
+    @Test
+    void verifyJwtToken_shouldReuseClaims_whenTokenPresentedAgain() {
+        var token = token(NOW + 60_000);
+        var claims = ClaimToken.Builder.newInstance().claim(VC_CLAIM, List.of(credential(null, false))).build();
+        when(delegate.verifyJwtToken(any(), any(), any())).thenReturn(Result.success(claims));
+
+        assertThat(identityService.verifyJwtToken("participant", token, context).getContent()).isSameAs(claims);
+        assertThat(identityService.verifyJwtToken("participant", token, context).getContent()).isSameAs(claims);
+
+        verify(delegate, times(1)).verifyJwtToken(any(), any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldVerify_whenTokenExpired() {
+        var token = token(NOW + 60_000);
+        when(delegate.verifyJwtToken(any(), any(), any())).thenReturn(Result.success(ClaimToken.Builder.newInstance().build()));
+
+        identityService.verifyJwtToken("participant", token, context);
+        when(clock.millis()).thenReturn(NOW + 60_000);
+        identityService.verifyJwtToken("participant", token, context);
+
+        verify(delegate, times(2)).verifyJwtToken(any(), any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldVerify_whenCredentialExpired() {
+        var token = token(NOW + 600_000);
+        var claims = ClaimToken.Builder.newInstance().claim(VC_CLAIM, List.of(credential(Instant.ofEpochMilli(NOW + 10_000), false))).build();
+        when(delegate.verifyJwtToken(any(), any(), any())).thenReturn(Result.success(claims));
+
+        identityService.verifyJwtToken("participant", token, context);
+        when(clock.millis()).thenReturn(NOW + 10_000);
+        identityService.verifyJwtToken("participant", token, context);
+
+        verify(delegate, times(2)).verifyJwtToken(any(), any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldVerify_whenRevocationTtlElapsed() {
+        var token = token(NOW + 3_600_000);
+        var claims = ClaimToken.Builder.newInstance().claim(VC_CLAIM, List.of(credential(null, true))).build();
+        when(delegate.verifyJwtToken(any(), any(), any())).thenReturn(Result.success(claims));
+
+        identityService.verifyJwtToken("participant", token, context);
+        when(clock.millis()).thenReturn(NOW + 299_000);
+        identityService.verifyJwtToken("participant", token, context);
+        when(clock.millis()).thenReturn(NOW + 300_000);
+        identityService.verifyJwtToken("participant", token, context);
+
+        verify(delegate, times(2)).verifyJwtToken(any(), any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldNotCacheFailure() {
+        var token = token(NOW + 60_000);
+        when(delegate.verifyJwtToken(any(), any(), any())).thenReturn(Result.failure("invalid"));
+
+        identityService.verifyJwtToken("participant", token, context);
+        identityService.verifyJwtToken("participant", token, context);
+
+        verify(delegate, times(2)).verifyJwtToken(any(), any(), any());
+    }
+
+    private TokenRepresentation token(long expiresAt) {
+        var jwt = new PlainJWT(new JWTClaimsSet.Builder().issuer("did:web:consumer").expirationTime(new Date(expiresAt)).build());
+        return TokenRepresentation.Builder.newInstance().token(jwt.serialize()).build();
+    }
+
+    private VerifiableCredential credential(Instant expirationDate, boolean withStatus) {
+        var credential = mock(VerifiableCredential.class);
+        when(credential.getExpirationDate()).thenReturn(expirationDate);
+        when(credential.getCredentialStatus()).thenReturn(withStatus ? List.of(mock(CredentialStatus.class)) : List.of());
+        return credential;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.iam.presentation.cache;
+
+import org.eclipse.edc.boot.system.injection.ObjectFactory;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Clock;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.virtual.controlplane.iam.presentation.cache.PresentationCacheExtension.JTI_VALIDATION;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class PresentationCacheExtensionTest {
+
+    private final IdentityService identityService = mock();
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        context.registerService(IdentityService.class, identityService);
+        context.registerService(Monitor.class, mock());
+        context.registerService(Clock.class, Clock.systemUTC());
+    }
+
+    @Test
+    void initialize_shouldProvideCachingIdentityService(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.iam.presentation.cache.enabled", "true")));
+
+        factory.constructInstance(PresentationCacheExtension.class).initialize(context);
+
+        assertThat(context.getService(IdentityService.class)).isInstanceOf(CachingIdentityService.class);
+    }
+
+    @Test
+    void initialize_shouldKeepIdentityService_whenJtiValidationEnabled(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.iam.presentation.cache.enabled", "true", JTI_VALIDATION, "true")));
+
+        factory.constructInstance(PresentationCacheExtension.class).initialize(context);
+
+        assertThat(context.getService(IdentityService.class)).isSameAs(identityService);
+    }
+}
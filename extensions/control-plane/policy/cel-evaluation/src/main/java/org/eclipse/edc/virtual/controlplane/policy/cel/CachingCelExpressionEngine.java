@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import dev.cel.runtime.CelEvaluationException;
+import org.eclipse.edc.policy.cel.engine.CelExpressionEngine;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+
+import java.time.Clock;
+import java.util.Map;
+
+/**
+ * {@link CelExpressionEngine} evaluating the programs of a {@link CelProgramCache}, so that neither the store nor
+ * the compiler are involved in the evaluation of a known expression. A left operand bound to several expressions
+ * is satisfied when all of them are. Validation is left to the delegate, so that this engine accepts the same
+ * expressions as the one it replaces, and the programs of valid expressions are compiled ahead of their evaluation.
+ * Expressions this engine cannot compile are evaluated by the delegate.
+ */
+public class CachingCelExpressionEngine implements CelExpressionEngine {
+
+    private final CelExpressionEngine delegate;
+    private final CelProgramCache cache;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    CachingCelExpressionEngine(CelExpressionEngine delegate, CelProgramCache cache, Clock clock, Monitor monitor) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public boolean canEvaluate(String leftOperand) {
+        return !cache.expressions(leftOperand).isEmpty();
+    }
+
+    @Override
+    public ServiceResult<Void> validate(String expression) {
+        var result = delegate.validate(expression);
+        if (result.succeeded()) {
+            cache.program(expression);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean evaluateExpression(Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params) {
+        var expressions = cache.expressions(leftOperand.toString());
+        if (expressions.isEmpty()) {
+            return false;
+        }
+        var activation = new CelActivation(leftOperand, operator, rightOperand, params, clock);
+        for (var expression : expressions) {
+            var program = cache.program(expression.getExpression());
+            if (program.failed()) {
+                return delegate.evaluateExpression(leftOperand, operator, rightOperand, params);
+            }
+            try {
+                if (!Boolean.TRUE.equals(program.getContent().eval(activation))) {
+                    return false;
+                }
+            } catch (CelEvaluationException e) {
+                monitor.warning("Failed to evaluate CEL expression %s for %s: %s".formatted(expression.getId(), leftOperand, e.getMessage()));
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import org.eclipse.edc.policy.cel.model.CelExpression;
+import org.eclipse.edc.policy.cel.store.CelExpressionStore;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+
+import java.util.List;
+
+/**
+ * {@link CelExpressionStore} that applies the expressions written on this node to the {@link CelProgramCache}, so
+ * that they are evaluated without waiting for the next refresh. The refresh still picks up the writes of other nodes,
+ * and reconciles the cache with the store.
+ */
+public class CachingCelExpressionStore implements CelExpressionStore {
+
+    private final CelExpressionStore delegate;
+    private final CelProgramCache cache;
+
+    CachingCelExpressionStore(CelExpressionStore delegate, CelProgramCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public StoreResult<Void> create(CelExpression expression) {
+        var result = delegate.create(expression);
+        if (result.succeeded()) {
+            cache.put(expression);
+        }
+        return result;
+    }
+
+    @Override
+    public StoreResult<Void> update(CelExpression expression) {
+        var result = delegate.update(expression);
+        if (result.succeeded()) {
+            cache.put(expression);
+        }
+        return result;
+    }
+
+    @Override
+    public StoreResult<Void> delete(String id) {
+        var result = delegate.delete(id);
+        if (result.succeeded()) {
+            cache.remove(id);
+        }
+        return result;
+    }
+
+    @Override
+    public List<CelExpression> query(QuerySpec querySpec) {
+        return delegate.query(querySpec);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import com.google.protobuf.Timestamp;
+import dev.cel.runtime.CelVariableResolver;
+import org.eclipse.edc.policy.model.Operator;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.eclipse.edc.virtual.controlplane.policy.cel.CelProgramCompiler.CONSTRAINTS;
+import static org.eclipse.edc.virtual.controlplane.policy.cel.CelProgramCompiler.CTX;
+import static org.eclipse.edc.virtual.controlplane.policy.cel.CelProgramCompiler.NOW;
+import static org.eclipse.edc.virtual.controlplane.policy.cel.CelProgramCompiler.THIS;
+
+/**
+ * Resolves the variables of a CEL program when the program reads them: {@code this} and {@code now} are built on
+ * first access and then reused by every program evaluated against the same constraint, {@code ctx} is handed over
+ * as is. Composed programs read the {@code this} of each of their constraints from {@code constraints} instead.
+ */
+class CelActivation implements CelVariableResolver {
+
+    private final Object leftOperand;
+    private final Operator operator;
+    private final Object rightOperand;
+    private final Map<String, Object> params;
+    private final Clock clock;
+    private List<Map<String, Object>> constraints = List.of();
+    private Map<String, Object> constraint;
+    private Timestamp now;
+
+    CelActivation(Object leftOperand, Operator operator, Object rightOperand, Map<String, Object> params, Clock clock) {
+        this.leftOperand = leftOperand;
+        this.operator = operator;
+        this.rightOperand = rightOperand;
+        this.params = params;
+        this.clock = clock;
+    }
+
+    static CelActivation composed(List<Map<String, Object>> constraints, Map<String, Object> params, Clock clock) {
+        var activation = new CelActivation(null, null, null, params, clock);
+        activation.constraints = constraints;
+        return activation;
+    }
+
+    static Map<String, Object> constraint(Object leftOperand, Operator operator, Object rightOperand) {
+        var constraint = new HashMap<String, Object>();
+        constraint.put("leftOperand", leftOperand.toString());
+        constraint.put("operator", operator.name());
+        constraint.put("rightOperand", rightOperand);
+        return constraint;
+    }
+
+    @Override
+    public Optional<Object> find(String name) {
+        return switch (name) {
+            case THIS -> Optional.ofNullable(current());
+            case CONSTRAINTS -> Optional.of(constraints);
+            case CTX -> Optional.ofNullable(params);
+            case NOW -> Optional.of(now());
+            default -> Optional.empty();
+        };
+    }
+
+    private Map<String, Object> current() {
+        if (constraint == null && leftOperand != null) {
+            constraint = constraint(leftOperand, operator, rightOperand);
+        }
+        return constraint;
+    }
+
+    private Timestamp now() {
+        if (now == null) {
+            var instant = clock.instant();
+            now = Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()).build();
+        }
+        return now;
+    }
+}
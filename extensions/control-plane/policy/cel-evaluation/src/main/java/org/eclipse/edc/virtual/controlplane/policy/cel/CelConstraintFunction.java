@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import org.eclipse.edc.participant.spi.ParticipantAgentPolicyContext;
+import org.eclipse.edc.policy.cel.engine.CelExpressionEngine;
+import org.eclipse.edc.policy.engine.spi.DynamicAtomicConstraintRuleFunction;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Evaluates constraints bound to CEL expressions, passing the policy context to the engine as a
+ * {@link PolicyContextView} rather than as a map copied from the participant agent.
+ * <p>
+ * With a {@link CelPermissionEvaluator}, the first constraint evaluated in a permission evaluates all the CEL-backed
+ * constraints of the permission at once. The outcome is kept for the current thread, so that the policy engine
+ * calls for the other constraints of the same permission and context are answered without evaluating anything.
+ * Constraints not covered by a satisfied composed program are evaluated one by one. The outcome is dropped by
+ * {@link #reset()} once the policy is evaluated.
+ */
+public class CelConstraintFunction<C extends ParticipantAgentPolicyContext> implements DynamicAtomicConstraintRuleFunction<Permission, C> {
+
+    private final CelExpressionEngine engine;
+    private final Function<Object, Object> converter;
+    private final CelPermissionEvaluator permissionEvaluator;
+    private final ThreadLocal<Composed> composed = new ThreadLocal<>();
+
+    public CelConstraintFunction(CelExpressionEngine engine, Function<Object, Object> converter) {
+        this(engine, converter, null);
+    }
+
+    CelConstraintFunction(CelExpressionEngine engine, Function<Object, Object> converter, CelPermissionEvaluator permissionEvaluator) {
+        this.engine = engine;
+        this.converter = converter;
+        this.permissionEvaluator = permissionEvaluator;
+    }
+
+    @Override
+    public boolean evaluate(Object leftOperand, Operator operator, Object rightOperand, Permission permission, C context) {
+        if (permissionEvaluator == null) {
+            return engine.evaluateExpression(leftOperand.toString(), operator, rightOperand, new PolicyContextView(context, converter));
+        }
+        var last = composed.get();
+        if (last == null || last.permission() != permission || last.context() != context) {
+            var params = new PolicyContextView(context, converter);
+            last = new Composed(permission, context, params, permissionEvaluator.evaluate(permission, params));
+            composed.set(last);
+        }
+        if (CelPermissionEvaluator.covers(last.satisfied(), leftOperand, operator, rightOperand)) {
+            return true;
+        }
+        return engine.evaluateExpression(leftOperand.toString(), operator, rightOperand, last.params());
+    }
+
+    @Override
+    public boolean canHandle(Object leftOperand) {
+        return engine.canEvaluate(leftOperand.toString());
+    }
+
+    /**
+     * Drops the outcome kept for the current thread.
+     */
+    void reset() {
+        composed.remove();
+    }
+
+    private record Composed(Permission permission, Object context, PolicyContextView params, List<AtomicConstraint> satisfied) {
+    }
+}
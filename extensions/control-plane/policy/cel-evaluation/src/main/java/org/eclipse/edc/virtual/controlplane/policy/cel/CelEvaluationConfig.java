@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record CelEvaluationConfig(
+        @Setting(key = "edc.policy.cel.cache.enabled", description = "Whether compiled CEL programs are cached instead of looked up and compiled on every evaluation", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.policy.cel.cache.max-programs", description = "Max number of compiled CEL programs kept in memory", defaultValue = "1000")
+        int maxPrograms,
+        @Setting(key = "edc.policy.cel.cache.refresh-period", description = "Interval in seconds between two checks for CEL expressions changed on any node", defaultValue = "5")
+        long refreshPeriod,
+        @Setting(key = "edc.policy.cel.lazy-context.enabled", description = "Whether CEL expressions read the participant agent through on-demand views instead of a copy of its claims and attributes. " +
+                "Registers a CEL policy function of its own, so it must only be enabled when the runtime does not register the cel-core one", defaultValue = "false")
+        boolean lazyContext,
+        @Setting(key = "edc.policy.cel.compose.enabled", description = "Whether the CEL-backed constraints of a permission are evaluated together by a single composed program. " +
+                "Requires the CEL cache and the lazy context, and must not be combined with the policy evaluation cache", defaultValue = "false")
+        boolean compose
+) {
+
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext;
+import org.eclipse.edc.connector.controlplane.contract.spi.policy.ContractNegotiationPolicyContext;
+import org.eclipse.edc.connector.controlplane.transfer.spi.policy.TransferProcessPolicyContext;
+import org.eclipse.edc.participant.spi.ParticipantAgentPolicyContext;
+import org.eclipse.edc.policy.cel.engine.CelExpressionEngine;
+import org.eclipse.edc.policy.cel.store.CelExpressionStore;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.edc.virtual.controlplane.policy.cel.CelEvaluationExtension.NAME;
+
+@Provides({ CelExpressionEngine.class, CelExpressionStore.class })
+@Extension(NAME)
+public class CelEvaluationExtension implements ServiceExtension {
+
+    public static final String NAME = "CEL Evaluation";
+
+    @Inject
+    private CelExpressionEngine celExpressionEngine;
+    @Inject
+    private CelExpressionStore celExpressionStore;
+    @Inject
+    private PolicyEngine policyEngine;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private Monitor monitor;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private CelEvaluationConfig config;
+
+    private CelProgramCache cache;
+    private ScheduledExecutorService refresher;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var engine = celExpressionEngine;
+        if (config.enabled()) {
+            cache = new CelProgramCache(celExpressionStore, new CelProgramCompiler(), config.maxPrograms());
+            engine = new CachingCelExpressionEngine(celExpressionEngine, cache, clock, monitor.withPrefix("CEL"));
+            context.registerService(CelExpressionEngine.class, engine);
+            context.registerService(CelExpressionStore.class, new CachingCelExpressionStore(celExpressionStore, cache));
+        }
+        if (config.lazyContext()) {
+            Function<Object, Object> converter = value -> typeManager.getMapper().convertValue(value, Object.class);
+            var permissionEvaluator = cache != null && config.compose() ? new CelPermissionEvaluator(cache, clock, monitor.withPrefix("CEL")) : null;
+            register(CatalogPolicyContext.class, new CelConstraintFunction<>(engine, converter, permissionEvaluator));
+            register(ContractNegotiationPolicyContext.class, new CelConstraintFunction<>(engine, converter, permissionEvaluator));
+            register(TransferProcessPolicyContext.class, new CelConstraintFunction<>(engine, converter, permissionEvaluator));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (cache != null) {
+            refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName("CelProgramCacheRefresher");
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(this::refresh, config.refreshPeriod(), config.refreshPeriod(), SECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Registers the function for the scope, and resets its per-thread state before and after each policy evaluation,
+     * so that pool threads do not keep the last policy context reachable.
+     */
+    private <C extends ParticipantAgentPolicyContext> void register(Class<C> scope, CelConstraintFunction<C> function) {
+        policyEngine.registerFunction(scope, Permission.class, function);
+        policyEngine.registerPreValidator(scope, (policy, context) -> {
+            function.reset();
+            return true;
+        });
+        policyEngine.registerPostValidator(scope, (policy, context) -> {
+            function.reset();
+            return true;
+        });
+    }
+
+    private void refresh() {
+        try {
+            cache.refresh();
+        } catch (Exception e) {
+            monitor.warning("Failed to check CEL expressions for changes", e);
+        }
+    }
+}
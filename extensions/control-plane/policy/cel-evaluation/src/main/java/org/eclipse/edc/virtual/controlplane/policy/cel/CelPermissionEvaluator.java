@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import dev.cel.runtime.CelEvaluationException;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Expression;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.edc.virtual.controlplane.policy.cel.CelProgramCompiler.CONSTRAINTS;
+import static org.eclipse.edc.virtual.controlplane.policy.cel.CelProgramCompiler.THIS;
+
+/**
+ * Evaluates all CEL-backed constraints at the top level of a permission with a single program.
+ * <p>
+ * The expressions bound to each constraint are composed into one conjunction, in which
+ * {@code cel.bind(this, constraints[i], ...)} gives every expression the {@code this} of its constraint. The composed
+ * program is cached like any other, keyed by its source, and evaluated once against an activation shared by all
+ * constraints.
+ */
+class CelPermissionEvaluator {
+
+    private final CelProgramCache cache;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    CelPermissionEvaluator(CelProgramCache cache, Clock clock, Monitor monitor) {
+        this.cache = cache;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the constraints of the permission found satisfied by the composed program, or an empty list if the
+     * program is not satisfied, or if the permission has fewer than two CEL-backed constraints.
+     */
+    List<AtomicConstraint> evaluate(Permission permission, Map<String, Object> params) {
+        var constraints = new ArrayList<AtomicConstraint>();
+        var sources = new ArrayList<String>();
+        for (var constraint : permission.getConstraints()) {
+            if (constraint instanceof AtomicConstraint atomic && atomic.getLeftExpression() instanceof LiteralExpression left) {
+                var expressions = cache.expressions(left.getValue().toString());
+                if (!expressions.isEmpty()) {
+                    var index = constraints.size();
+                    constraints.add(atomic);
+                    expressions.forEach(expression -> sources.add("cel.bind(%s, %s[%d], (\n%s\n))".formatted(THIS, CONSTRAINTS, index, expression.getExpression())));
+                }
+            }
+        }
+        if (constraints.size() < 2) {
+            return List.of();
+        }
+
+        var program = cache.program(String.join(" && ", sources));
+        if (program.failed()) {
+            return List.of();
+        }
+        var activation = CelActivation.composed(constraints.stream().map(this::variable).toList(), params, clock);
+        try {
+            return Boolean.TRUE.equals(program.getContent().eval(activation)) ? constraints : List.of();
+        } catch (CelEvaluationException e) {
+            monitor.debug("Composed CEL evaluation failed, constraints will be evaluated one by one: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Whether one of the constraints matches the operands passed to a constraint function.
+     */
+    static boolean covers(List<AtomicConstraint> constraints, Object leftOperand, Operator operator, Object rightOperand) {
+        return constraints.stream().anyMatch(constraint -> constraint.getOperator() == operator &&
+                Objects.equals(String.valueOf(value(constraint.getLeftExpression())), leftOperand.toString()) &&
+                Objects.equals(value(constraint.getRightExpression()), rightOperand));
+    }
+
+    private Map<String, Object> variable(AtomicConstraint constraint) {
+        return CelActivation.constraint(value(constraint.getLeftExpression()), constraint.getOperator(), value(constraint.getRightExpression()));
+    }
+
+    private static Object value(Expression expression) {
+        return expression instanceof LiteralExpression literal ? literal.getValue() : null;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import dev.cel.runtime.CelRuntime;
+import org.eclipse.edc.policy.cel.model.CelExpression;
+import org.eclipse.edc.policy.cel.store.CelExpressionStore;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled CEL programs, and the expressions bound to each left operand.
+ * <p>
+ * Programs are keyed by the hash of their expression, so an expression compiled once, for example when it is
+ * validated before being stored, is not compiled again when it is evaluated. The expressions are read from the
+ * {@link CelExpressionStore} all at once, on first use and on each {@link #refresh()}, so that expressions created,
+ * updated or deleted on any node are picked up. Writes made on this node are applied right away. Left operands without expressions, for example those of policies
+ * supplied by a counter-party, are answered without a store query and without growing the cache.
+ */
+class CelProgramCache {
+
+    private final CelExpressionStore store;
+    private final CelProgramCompiler compiler;
+    private final int maxPrograms;
+    private final Map<String, CelRuntime.Program> programs;
+    private volatile Map<String, Bound> bound;
+
+    CelProgramCache(CelExpressionStore store, CelProgramCompiler compiler, int maxPrograms) {
+        this.store = store;
+        this.compiler = compiler;
+        this.maxPrograms = maxPrograms;
+        this.programs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CelRuntime.Program> eldest) {
+                return size() > CelProgramCache.this.maxPrograms;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled program of the expression, compiling it if needed.
+     */
+    Result<CelRuntime.Program> program(String expression) {
+        var hash = hash(expression);
+        synchronized (programs) {
+            var program = programs.get(hash);
+            if (program != null) {
+                return Result.success(program);
+            }
+        }
+        var compiled = compiler.compile(expression);
+        if (compiled.succeeded()) {
+            synchronized (programs) {
+                programs.put(hash, compiled.getContent());
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Returns the expressions bound to the left operand.
+     */
+    List<CelExpression> expressions(String leftOperand) {
+        var current = bound;
+        if (current == null) {
+            synchronized (this) {
+                if (bound == null) {
+                    refresh();
+                }
+                current = bound;
+            }
+        }
+        return current.getOrDefault(leftOperand, Bound.EMPTY).expressions();
+    }
+
+    /**
+     * Reloads the expressions of all left operands. The expressions of a left operand that did not change since they
+     * were loaded are kept as they are.
+     */
+    synchronized void refresh() {
+        var previous = bound == null ? Map.<String, Bound>of() : bound;
+        var refreshed = new HashMap<String, Bound>();
+        store.query(QuerySpec.max()).stream()
+                .collect(Collectors.groupingBy(CelExpression::getLeftOperand))
+                .forEach((leftOperand, expressions) -> {
+                    var loaded = new Bound(List.copyOf(expressions), expressions.stream().map(this::version).collect(Collectors.toSet()));
+                    var current = previous.get(leftOperand);
+                    refreshed.put(leftOperand, current != null && current.versions().equals(loaded.versions()) ? current : loaded);
+                });
+        bound = Map.copyOf(refreshed);
+    }
+
+    /**
+     * Binds the created or updated expression to its left operand, in place of its previous version.
+     */
+    synchronized void put(CelExpression expression) {
+        if (bound != null) {
+            bound = rebind(expression.getId(), expression);
+        }
+    }
+
+    /**
+     * Unbinds the deleted expression from its left operand.
+     */
+    synchronized void remove(String id) {
+        if (bound != null) {
+            bound = rebind(id, null);
+        }
+    }
+
+    private Map<String, Bound> rebind(String id, @Nullable CelExpression expression) {
+        var expressions = bound.values().stream()
+                .flatMap(current -> current.expressions().stream())
+                .filter(current -> !current.getId().equals(id))
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (expression != null) {
+            expressions.add(expression);
+        }
+        var rebound = new HashMap<String, Bound>();
+        expressions.stream()
+                .collect(Collectors.groupingBy(CelExpression::getLeftOperand))
+                .forEach((leftOperand, grouped) -> {
+                    var current = bound.get(leftOperand);
+                    var versions = grouped.stream().map(this::version).collect(Collectors.toSet());
+                    var unchanged = current != null && current.versions().equals(versions);
+                    rebound.put(leftOperand, unchanged ? current : new Bound(List.copyOf(grouped), versions));
+                });
+        return Map.copyOf(rebound);
+    }
+
+    private String version(CelExpression expression) {
+        return expression.getId() + "@" + expression.getUpdatedAt();
+    }
+
+    private static String hash(String expression) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(expression.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Bound(List<CelExpression> expressions, Set<String> versions) {
+        private static final Bound EMPTY = new Bound(List.of(), Set.of());
+    }
+}
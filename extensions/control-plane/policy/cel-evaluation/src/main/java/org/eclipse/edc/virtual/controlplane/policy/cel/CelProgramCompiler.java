@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import dev.cel.common.CelValidationException;
+import dev.cel.common.types.ListType;
+import dev.cel.common.types.SimpleType;
+import dev.cel.compiler.CelCompiler;
+import dev.cel.compiler.CelCompilerFactory;
+import dev.cel.extensions.CelExtensions;
+import dev.cel.runtime.CelEvaluationException;
+import dev.cel.runtime.CelRuntime;
+import dev.cel.runtime.CelRuntimeFactory;
+import org.eclipse.edc.spi.result.Result;
+
+/**
+ * Compiles CEL expressions into programs evaluated against the {@code this}, {@code ctx} and {@code now} variables.
+ * Programs composed from several expressions also read the {@code constraints} list, and bind {@code this} to one of
+ * its elements with {@code cel.bind}.
+ */
+class CelProgramCompiler {
+
+    static final String THIS = "this";
+    static final String CTX = "ctx";
+    static final String NOW = "now";
+    static final String CONSTRAINTS = "constraints";
+
+    private final CelCompiler compiler = CelCompilerFactory.standardCelCompilerBuilder()
+            .addVar(THIS, SimpleType.DYN)
+            .addVar(CTX, SimpleType.DYN)
+            .addVar(NOW, SimpleType.TIMESTAMP)
+            .addVar(CONSTRAINTS, ListType.create(SimpleType.DYN))
+            .addLibraries(CelExtensions.bindings())
+            .setResultType(SimpleType.BOOL)
+            .build();
+    private final CelRuntime runtime = CelRuntimeFactory.standardCelRuntimeBuilder().build();
+
+    Result<CelRuntime.Program> compile(String expression) {
+        var compiled = compiler.compile(expression);
+        if (compiled.hasError()) {
+            return Result.failure("Invalid CEL expression: " + compiled.getErrorString());
+        }
+        try {
+            return Result.success(runtime.createProgram(compiled.getAst()));
+        } catch (CelValidationException | CelEvaluationException e) {
+            return Result.failure("Invalid CEL expression: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-only views exposing arbitrary values to CEL without copying them.
+ * <p>
+ * Maps and lists are wrapped, and their elements are only turned into CEL values when they are read. Objects that
+ * CEL cannot navigate, such as verifiable credentials, are converted to plain maps by the converter, again only
+ * when they are read.
+ */
+final class LazyViews {
+
+    private LazyViews() {
+    }
+
+    static Object view(Object value, Function<Object, Object> converter) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof MapView || value instanceof ListView) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return new MapView(map, converter);
+        }
+        if (value instanceof List<?> list) {
+            return new ListView(list, converter);
+        }
+        return view(converter.apply(value), converter);
+    }
+
+    private static final class MapView extends AbstractMap<Object, Object> {
+        private final Map<?, ?> map;
+        private final Function<Object, Object> converter;
+
+        MapView(Map<?, ?> map, Function<Object, Object> converter) {
+            this.map = map;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return view(map.get(key), converter);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    var entries = map.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Object, Object> next() {
+                            var entry = entries.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), view(entry.getValue(), converter));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return map.size();
+                }
+            };
+        }
+    }
+
+    private static final class ListView extends AbstractList<Object> {
+        private final List<?> list;
+        private final Function<Object, Object> converter;
+
+        ListView(List<?> list, Function<Object, Object> converter) {
+            this.list = list;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object get(int index) {
+            return view(list.get(index), converter);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participant.spi.ParticipantAgentPolicyContext;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The {@code ctx} variable of CEL expressions, as a view over a policy context: {@code ctx.agent.id},
+ * {@code ctx.agent.claims} and {@code ctx.agent.attributes} are read from the {@link ParticipantAgent} when the
+ * expression accesses them, without copying the claims.
+ */
+class PolicyContextView extends AbstractMap<String, Object> {
+
+    private static final String AGENT = "agent";
+
+    private final ParticipantAgentPolicyContext context;
+    private final Function<Object, Object> converter;
+
+    PolicyContextView(ParticipantAgentPolicyContext context, Function<Object, Object> converter) {
+        this.context = context;
+        this.converter = converter;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return AGENT.equals(key) ? new AgentView(context.participantAgent(), converter) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return AGENT.equals(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return Set.of(Map.entry(AGENT, get(AGENT)));
+    }
+
+    private static class AgentView extends AbstractMap<String, Object> {
+        private static final Set<String> KEYS = Set.of("id", "claims", "attributes");
+
+        private final ParticipantAgent agent;
+        private final Function<Object, Object> converter;
+
+        AgentView(ParticipantAgent agent, Function<Object, Object> converter) {
+            this.agent = agent;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (agent == null || !(key instanceof String name)) {
+                return null;
+            }
+            return switch (name) {
+                case "id" -> agent.getIdentity();
+                case "claims" -> LazyViews.view(agent.getClaims(), converter);
+                case "attributes" -> LazyViews.view(agent.getAttributes(), converter);
+                default -> null;
+            };
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return KEYS.contains(key);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Set.of(
+                    new SimpleImmutableEntry<>("id", get("id")),
+                    new SimpleImmutableEntry<>("claims", get("claims")),
+                    new SimpleImmutableEntry<>("attributes", get("attributes")));
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cel;
+
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participant.spi.ParticipantAgentPolicyContext;
+import org.eclipse.edc.policy.cel.engine.CelExpressionEngine;
+import org.eclipse.edc.policy.cel.model.CelExpression;
+import org.eclipse.edc.policy.cel.store.CelExpressionStore;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingCelExpressionEngineTest {
+
+    private final CelExpressionStore store = mock();
+    private final CelExpressionEngine delegate = mock();
+    private final CelProgramCompiler compiler = spy(new CelProgramCompiler());
+    private final CelProgramCache cache = new CelProgramCache(store, compiler, 10);
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final CachingCelExpressionEngine engine = new CachingCelExpressionEngine(delegate, cache, clock, mock(Monitor.class));
+
+    @Test
+    void evaluateExpression_shouldCompileAndLoadOnce() {
+        var expression = expression("1", "membership", "ctx.agent.id == this.rightOperand", 1L);
+        when(store.query(any())).thenReturn(List.of(expression));
+
+        var params = Map.<String, Object>of("agent", Map.of("id", "consumer"));
+        assertThat(engine.evaluateExpression("membership", Operator.EQ, "consumer", params)).isTrue();
+        assertThat(engine.evaluateExpression("membership", Operator.EQ, "other", params)).isFalse();
+
+        verify(store, times(1)).query(any());
+        verify(compiler, times(1)).compile(any());
+    }
+
+    @Test
+    void evaluateExpression_shouldExposeNow() {
+        when(store.query(any())).thenReturn(List.of(expression("1", "before", "now < timestamp(this.rightOperand)", 1L)));
+
+        assertThat(engine.evaluateExpression("before", Operator.EQ, "2027-01-01T00:00:00Z", Map.of())).isTrue();
+        assertThat(engine.evaluateExpression("before", Operator.EQ, "2025-01-01T00:00:00Z", Map.of())).isFalse();
+    }
+
+    @Test
+    void evaluateExpression_shouldRequireAllExpressionsOfLeftOperand() {
+        when(store.query(any())).thenReturn(List.of(
+                expression("1", "membership", "this.rightOperand == 'gold'", 1L),
+                expression("2", "membership", "ctx.agent.id == 'consumer'", 1L)));
+
+        assertThat(engine.evaluateExpression("membership", Operator.EQ, "gold", Map.of("agent", Map.of("id", "consumer")))).isTrue();
+        assertThat(engine.evaluateExpression("membership", Operator.EQ, "gold", Map.of("agent", Map.of("id", "other")))).isFalse();
+    }
+
+    @Test
+    void evaluateExpression_shouldOnlyConvertClaimsReadByExpression() {
+        when(store.query(any())).thenReturn(List.of(
+                expression("1", "membership", "ctx.agent.claims.vc.exists(c, c.type == this.rightOperand)", 1L)));
+        var agent = mock(ParticipantAgent.class);
+        when(agent.getClaims()).thenReturn(Map.of(
+                "vc", List.of(new Credential("MembershipCredential")),
+                "other", new Credential("DataProcessorCredential")));
+        var context = mock(ParticipantAgentPolicyContext.class);
+        when(context.participantAgent()).thenReturn(agent);
+        var converted = new ArrayList<>();
+        var params = new PolicyContextView(context, value -> {
+            converted.add(value);
+            return Map.of("type", ((Credential) value).type());
+        });
+
+        assertThat(engine.evaluateExpression("membership", Operator.EQ, "MembershipCredential", params)).isTrue();
+        assertThat(converted).containsExactly(new Credential("MembershipCredential"));
+    }
+
+    @Test
+    void evaluate_shouldEvaluateCelConstraintsOfPermissionOnce() {
+        when(store.query(any())).thenReturn(List.of(
+                expression("1", "membership", "ctx.agent.id == 'consumer' && this.rightOperand == 'gold'", 1L),
+                expression("2", "region", "this.rightOperand == 'eu'", 1L)));
+        var agent = mock(ParticipantAgent.class);
+        when(agent.getIdentity()).thenReturn("consumer");
+        var context = mock(ParticipantAgentPolicyContext.class);
+        when(context.participantAgent()).thenReturn(agent);
+        var spiedEngine = spy(engine);
+        var function = new CelConstraintFunction<ParticipantAgentPolicyContext>(spiedEngine, value -> value,
+                new CelPermissionEvaluator(cache, clock, mock(Monitor.class)));
+        var permission = Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type("use").build())
+                .constraint(constraint("membership", "gold"))
+                .constraint(constraint("region", "eu"))
+                .build();
+
+        assertThat(function.evaluate("membership", Operator.EQ, "gold", permission, context)).isTrue();
+        assertThat(function.evaluate("region", Operator.EQ, "eu", permission, context)).isTrue();
+
+        verify(spiedEngine, never()).evaluateExpression(any(), any(), any(), any());
+        verify(compiler, times(1)).compile(any());
+    }
+
+    @Test
+    void reset_shouldDropComposedOutcome() {
+        when(store.query(any())).thenReturn(List.of(
+                expression("1", "membership", "this.rightOperand == 'gold'", 1L),
+                expression("2", "region", "this.rightOperand == 'eu'", 1L)));
+        var permissionEvaluator = spy(new CelPermissionEvaluator(cache, clock, mock(Monitor.class)));
+        var function = new CelConstraintFunction<ParticipantAgentPolicyContext>(engine, value -> value, permissionEvaluator);
+        var permission = Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type("use").build())
+                .constraint(constraint("membership", "gold"))
+                .constraint(constraint("region", "eu"))
+                .build();
+        var context = mock(ParticipantAgentPolicyContext.class);
+
+        function.evaluate("membership", Operator.EQ, "gold", permission, context);
+        function.reset();
+        function.evaluate("region", Operator.EQ, "eu", permission, context);
+
+        verify(permissionEvaluator, times(2)).evaluate(any(), any());
+    }
+
+    @Test
+    void evaluate_shouldEvaluateOneByOne_whenComposedProgramNotSatisfied() {
+        when(store.query(any())).thenReturn(List.of(
+                expression("1", "membership", "this.rightOperand == 'gold'", 1L),
+                expression("2", "level", "this.rightOperand == 'gold'", 1L)));
+        var function = new CelConstraintFunction<ParticipantAgentPolicyContext>(engine, value -> value,
+                new CelPermissionEvaluator(cache, clock, mock(Monitor.class)));
+        var permission = Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type("use").build())
+                .constraint(constraint("membership", "gold"))
+                .constraint(constraint("level", "silver"))
+                .build();
+        var context = mock(ParticipantAgentPolicyContext.class);
+
+        assertThat(function.evaluate("membership", Operator.EQ, "gold", permission, context)).isTrue();
+        assertThat(function.evaluate("level", Operator.EQ, "silver", permission, context)).isFalse();
+    }
+
+    @Test
+    void validate_shouldWarmProgramCache() {
+        var source = "this.rightOperand == 'gold'";
+        when(store.query(any())).thenReturn(List.of(expression("1", "membership", source, 1L)));
+        when(delegate.validate(source)).thenReturn(ServiceResult.success());
+
+        assertThat(engine.validate(source).succeeded()).isTrue();
+        engine.evaluateExpression("membership", Operator.EQ, "gold", Map.of());
+
+        verify(compiler, times(1)).compile(source);
+    }
+
+    @Test
+    void validate_shouldFail_whenDelegateRejectsExpression() {
+        when(delegate.validate(any())).thenReturn(ServiceResult.badRequest("invalid"));
+
+        assertThat(engine.validate("this.rightOperand ==").failed()).isTrue();
+        verify(compiler, never()).compile(any());
+    }
+
+    @Test
+    void canEvaluate_shouldSeeExpressionsWrittenOnThisNode_beforeRefresh() {
+        var cachingStore = new CachingCelExpressionStore(store, cache);
+        var expression = expression("1", "membership", "true", 1L);
+        when(store.query(any())).thenReturn(List.of());
+        when(store.create(any())).thenReturn(StoreResult.success());
+        when(store.delete(any())).thenReturn(StoreResult.success());
+        assertThat(engine.canEvaluate("membership")).isFalse();
+
+        cachingStore.create(expression);
+        assertThat(engine.canEvaluate("membership")).isTrue();
+
+        cachingStore.delete("1");
+        assertThat(engine.canEvaluate("membership")).isFalse();
+        verify(store, times(1)).query(any());
+    }
+
+    @Test
+    void canEvaluate_shouldNotQueryStore_forUnknownLeftOperands() {
+        when(store.query(any())).thenReturn(List.of(expression("1", "membership", "true", 1L)));
+
+        assertThat(engine.canEvaluate("membership")).isTrue();
+        assertThat(engine.canEvaluate("unknown-1")).isFalse();
+        assertThat(engine.canEvaluate("unknown-2")).isFalse();
+
+        verify(store, times(1)).query(any());
+    }
+
+    @Test
+    void refresh_shouldReload_whenExpressionUpdated() {
+        var original = expression("1", "membership", "this.rightOperand == 'gold'", 1L);
+        var updated = expression("1", "membership", "this.rightOperand == 'silver'", 2L);
+        when(store.query(any())).thenReturn(List.of(original));
+        assertThat(engine.evaluateExpression("membership", Operator.EQ, "gold", Map.of())).isTrue();
+
+        when(store.query(any())).thenReturn(List.of(updated));
+        cache.refresh();
+
+        assertThat(engine.evaluateExpression("membership", Operator.EQ, "gold", Map.of())).isFalse();
+        assertThat(engine.evaluateExpression("membership", Operator.EQ, "silver", Map.of())).isTrue();
+    }
+
+    @Test
+    void refresh_shouldKeepExpressions_whenUnchanged() {
+        when(store.query(any())).thenReturn(List.of(expression("1", "membership", "true", 1L)));
+        engine.canEvaluate("membership");
+
+        cache.refresh();
+        engine.canEvaluate("membership");
+
+        verify(store, times(2)).query(any());
+    }
+
+    private CelExpression expression(String id, String leftOperand, String source, long updatedAt) {
+        var expression = mock(CelExpression.class);
+        when(expression.getId()).thenReturn(id);
+        when(expression.getLeftOperand()).thenReturn(leftOperand);
+        when(expression.getExpression()).thenReturn(source);
+        when(expression.getUpdatedAt()).thenReturn(updatedAt);
+        return expression;
+    }
+
+    private AtomicConstraint constraint(String leftOperand, String rightOperand) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(leftOperand))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(rightOperand))
+                .build();
+    }
+
+    private record Credential(String type) {
+    }
+}
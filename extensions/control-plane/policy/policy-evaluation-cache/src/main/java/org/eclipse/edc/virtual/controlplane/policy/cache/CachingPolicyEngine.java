@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.edc.participant.spi.ParticipantAgentPolicyContext;
+import org.eclipse.edc.policy.engine.spi.AtomicConstraintRuleFunction;
+import org.eclipse.edc.policy.engine.spi.DynamicAtomicConstraintRuleFunction;
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.spi.PolicyRuleFunction;
+import org.eclipse.edc.policy.engine.spi.PolicyValidatorRule;
+import org.eclipse.edc.policy.engine.spi.plan.PolicyEvaluationPlan;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.MultiplicityConstraint;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Rule;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link PolicyEngine} that caches evaluation results.
+ * <p>
+ * Results are keyed by the hash of the policy, the policy scope, a fingerprint of the participant agent (its
+ * identity, claims and attributes, canonically serialized) and the time bucket of the evaluation, so constraints on
+ * the current time are re-evaluated at least once per bucket. Results expire after the TTL whatever the bucket.
+ * Only the configured scopes are cached, and only for contexts carrying a participant agent. Policies containing a
+ * constraint on one of the bypassed left operands, backed by non-deterministic functions, are always evaluated.
+ * <p>
+ * A cached result is returned without calling the functions and the pre- and post-validators of the scope, so only
+ * scopes where these are side-effect free must be cached. The per-thread outcome of CEL composition, computed by a
+ * function and dropped by validators, is one such side effect, so composition is not to be enabled along with this
+ * cache. The claims of the participant agent are serialized into its fingerprint on each evaluation; agents whose
+ * claims cannot be serialized are always evaluated.
+ */
+public class CachingPolicyEngine implements PolicyEngine {
+
+    private final PolicyEngine delegate;
+    private final PolicyEvaluationCacheConfig config;
+    private final Set<String> scopes;
+    private final Set<String> bypassOperands;
+    private final ObjectWriter writer;
+    private final Clock clock;
+    private final Map<Key, Entry> results;
+
+    public CachingPolicyEngine(PolicyEngine delegate, PolicyEvaluationCacheConfig config, TypeManager typeManager, Clock clock) {
+        this.delegate = delegate;
+        this.config = config;
+        this.scopes = split(config.scopes());
+        this.bypassOperands = split(config.bypassOperands());
+        this.writer = typeManager.getMapper().writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.clock = clock;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > config.maxEntries();
+            }
+        };
+    }
+
+    @Override
+    public <C extends PolicyContext> Result<Void> evaluate(Policy policy, C context) {
+        var key = key(policy, context);
+        if (key == null) {
+            return delegate.evaluate(policy, context);
+        }
+        var now = clock.millis();
+        synchronized (results) {
+            var entry = results.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                return entry.result();
+            }
+        }
+        var result = delegate.evaluate(policy, context);
+        synchronized (results) {
+            results.put(key, new Entry(result, now + SECONDS.toMillis(config.ttl())));
+        }
+        return result;
+    }
+
+    @Override
+    public Policy filter(Policy policy, String scope) {
+        return delegate.filter(policy, scope);
+    }
+
+    @Override
+    public Result<Void> validate(Policy policy) {
+        return delegate.validate(policy);
+    }
+
+    @Override
+    public PolicyEvaluationPlan createEvaluationPlan(String scope, Policy policy) {
+        return delegate.createEvaluationPlan(scope, policy);
+    }
+
+    @Override
+    public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, String key, AtomicConstraintRuleFunction<R, ?, C> function) {
+        delegate.registerFunction(contextType, type, key, function);
+    }
+
+    @Override
+    public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, DynamicAtomicConstraintRuleFunction<R, C> function) {
+        delegate.registerFunction(contextType, type, function);
+    }
+
+    @Override
+    public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, PolicyRuleFunction<R, C> function) {
+        delegate.registerFunction(contextType, type, function);
+    }
+
+    @Override
+    public <C extends PolicyContext> void registerPreValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
+        delegate.registerPreValidator(contextType, validator);
+    }
+
+    @Override
+    public <C extends PolicyContext> void registerPostValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
+        delegate.registerPostValidator(contextType, validator);
+    }
+
+    /**
+     * Drops all cached results, for example after functions or validators changed.
+     */
+    public void clear() {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+
+    private Key key(Policy policy, PolicyContext context) {
+        if (!scopes.contains(context.scope()) || !(context instanceof ParticipantAgentPolicyContext agentContext) || bypassed(policy)) {
+            return null;
+        }
+        var agent = agentContext.participantAgent();
+        if (agent == null) {
+            return null;
+        }
+        try {
+            var agentFingerprint = hash(writer.writeValueAsBytes(Map.of(
+                    "id", String.valueOf(agent.getIdentity()),
+                    "claims", Objects.requireNonNullElse(agent.getClaims(), Map.of()),
+                    "attributes", Objects.requireNonNullElse(agent.getAttributes(), Map.of()))));
+            var bucket = clock.millis() / SECONDS.toMillis(Math.max(1, config.timeBucket()));
+            return new Key(hash(writer.writeValueAsBytes(policy)), context.scope(), agentFingerprint, bucket);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private boolean bypassed(Policy policy) {
+        if (bypassOperands.isEmpty()) {
+            return false;
+        }
+        return Stream.of(policy.getPermissions(), policy.getProhibitions(), policy.getObligations())
+                .flatMap(rules -> rules.stream().flatMap(this::rules))
+                .flatMap(rule -> rule.getConstraints().stream())
+                .anyMatch(this::bypassed);
+    }
+
+    private Stream<Rule> rules(Rule rule) {
+        return rule instanceof Permission permission ?
+                Stream.concat(Stream.of(rule), permission.getDuties().stream()) :
+                Stream.of(rule);
+    }
+
+    private boolean bypassed(Constraint constraint) {
+        if (constraint instanceof MultiplicityConstraint multiplicity) {
+            return multiplicity.getConstraints().stream().anyMatch(this::bypassed);
+        }
+        return constraint instanceof AtomicConstraint atomic &&
+                atomic.getLeftExpression() instanceof LiteralExpression left &&
+                bypassOperands.contains(String.valueOf(left.getValue()));
+    }
+
+    private static Set<String> split(String value) {
+        return Stream.of(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Key(String policyHash, String scope, String agentFingerprint, long bucket) {
+    }
+
+    private record Entry(Result<Void> result, long expiresAt) {
+    }
+}
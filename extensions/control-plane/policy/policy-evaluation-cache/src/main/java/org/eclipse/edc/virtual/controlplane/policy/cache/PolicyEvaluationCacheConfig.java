@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record PolicyEvaluationCacheConfig(
+        @Setting(key = "edc.policy.cache.enabled", description = "Whether policy evaluation results are cached per policy, scope and participant agent", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.policy.cache.scopes", description = "Comma-separated policy scopes whose evaluation results are cached. " +
+                "Only scopes whose functions and validators depend on nothing but the policy, the participant agent and the time, and have no side effects, " +
+                "should be listed: a cached result skips them. Not to be combined with CEL composition", defaultValue = "catalog")
+        String scopes,
+        @Setting(key = "edc.policy.cache.max-entries", description = "Max number of evaluation results kept in memory", defaultValue = "10000")
+        int maxEntries,
+        @Setting(key = "edc.policy.cache.ttl", description = "Time in seconds after which a cached evaluation result expires", defaultValue = "30")
+        long ttl,
+        @Setting(key = "edc.policy.cache.time-bucket", description = "Width in seconds of the time buckets results are cached for, so that time-based constraints are re-evaluated at least once per bucket", defaultValue = "60")
+        long timeBucket,
+        @Setting(key = "edc.policy.cache.bypass-operands", description = "Comma-separated left operands of constraints backed by non-deterministic functions. " +
+                "Policies containing any of them are always evaluated", defaultValue = "")
+        String bypassOperands
+) {
+
+}
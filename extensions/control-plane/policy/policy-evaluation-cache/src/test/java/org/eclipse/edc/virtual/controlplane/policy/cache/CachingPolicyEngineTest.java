@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.policy.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participant.spi.ParticipantAgentPolicyContext;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.spi.PolicyValidatorRule;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingPolicyEngineTest {
+
+    private final PolicyEngine delegate = mock();
+    private final TypeManager typeManager = mock();
+    private final Clock clock = mock();
+    private CachingPolicyEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(typeManager.getMapper()).thenReturn(new ObjectMapper());
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.evaluate(any(), any())).thenReturn(Result.success());
+        engine = new CachingPolicyEngine(delegate, new PolicyEvaluationCacheConfig(true, "catalog", 100, 30, 60, "random"), typeManager, clock);
+    }
+
+    @Test
+    void evaluate_shouldCacheResult_whenPolicyAndAgentUnchanged() {
+        var policy = policy("membership");
+
+        assertThat(engine.evaluate(policy, context("catalog", Map.of("vc", "gold"))).succeeded()).isTrue();
+        assertThat(engine.evaluate(policy("membership"), context("catalog", Map.of("vc", "gold"))).succeeded()).isTrue();
+
+        verify(delegate, times(1)).evaluate(any(), any());
+    }
+
+    @Test
+    void evaluate_shouldEvaluate_whenClaimsDiffer() {
+        var policy = policy("membership");
+
+        engine.evaluate(policy, context("catalog", Map.of("vc", "gold")));
+        engine.evaluate(policy, context("catalog", Map.of("vc", "silver")));
+
+        verify(delegate, times(2)).evaluate(any(), any());
+    }
+
+    @Test
+    void evaluate_shouldEvaluate_whenTimeBucketChanged() {
+        var policy = policy("membership");
+
+        engine.evaluate(policy, context("catalog", Map.of()));
+        when(clock.millis()).thenReturn(61_000L);
+        engine.evaluate(policy, context("catalog", Map.of()));
+
+        verify(delegate, times(2)).evaluate(any(), any());
+    }
+
+    @Test
+    void evaluate_shouldEvaluate_whenResultExpired() {
+        engine = new CachingPolicyEngine(delegate, new PolicyEvaluationCacheConfig(true, "catalog", 100, 10, 60, ""), typeManager, clock);
+        var policy = policy("membership");
+
+        engine.evaluate(policy, context("catalog", Map.of()));
+        when(clock.millis()).thenReturn(11_000L);
+        engine.evaluate(policy, context("catalog", Map.of()));
+
+        verify(delegate, times(2)).evaluate(any(), any());
+    }
+
+    @Test
+    void evaluate_shouldNotCache_whenScopeNotCached() {
+        var policy = policy("membership");
+
+        engine.evaluate(policy, context("transfer.process", Map.of()));
+        engine.evaluate(policy, context("transfer.process", Map.of()));
+
+        verify(delegate, times(2)).evaluate(any(), any());
+    }
+
+    @Test
+    void evaluate_shouldNotCache_whenPolicyHasBypassedOperand() {
+        var policy = policy("random");
+
+        engine.evaluate(policy, context("catalog", Map.of()));
+        engine.evaluate(policy, context("catalog", Map.of()));
+
+        verify(delegate, times(2)).evaluate(any(), any());
+    }
+
+    @Test
+    void evaluate_shouldSkipFunctionsAndValidators_onCacheHit() {
+        var validations = new AtomicInteger();
+        PolicyValidatorRule<ParticipantAgentPolicyContext> validator = (policy, context) -> validations.incrementAndGet() > 0;
+        engine.registerPreValidator(ParticipantAgentPolicyContext.class, validator);
+        engine.registerPostValidator(ParticipantAgentPolicyContext.class, validator);
+        when(delegate.evaluate(any(), any())).thenAnswer(invocation -> {
+            validator.apply(invocation.getArgument(0), invocation.getArgument(1));
+            validator.apply(invocation.getArgument(0), invocation.getArgument(1));
+            return Result.success();
+        });
+        var policy = policy("membership");
+
+        engine.evaluate(policy, context("catalog", Map.of()));
+        engine.evaluate(policy, context("catalog", Map.of()));
+
+        verify(delegate).registerPreValidator(ParticipantAgentPolicyContext.class, validator);
+        verify(delegate).registerPostValidator(ParticipantAgentPolicyContext.class, validator);
+        assertThat(validations).hasValue(2);
+    }
+
+    private ParticipantAgentPolicyContext context(String scope, Map<String, Object> claims) {
+        var agent = mock(ParticipantAgent.class);
+        when(agent.getIdentity()).thenReturn("consumer");
+        when(agent.getClaims()).thenReturn(claims);
+        when(agent.getAttributes()).thenReturn(Map.of());
+        var context = mock(ParticipantAgentPolicyContext.class);
+        when(context.scope()).thenReturn(scope);
+        when(context.participantAgent()).thenReturn(agent);
+        return context;
+    }
+
+    private Policy policy(String leftOperand) {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(leftOperand))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("gold"))
+                .build();
+        return Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance()
+                        .action(Action.Builder.newInstance().type("use").build())
+                        .constraint(constraint)
+                        .build())
+                .build();
+    }
+}
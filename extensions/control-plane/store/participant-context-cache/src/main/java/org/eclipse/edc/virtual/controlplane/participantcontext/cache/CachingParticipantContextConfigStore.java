@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
+import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ParticipantContextConfigStore} that reads configurations through a {@link TtlCache}.
+ * <p>
+ * Once the transaction of a save completes, the local entry is evicted. Saves are published on the
+ * {@link InvalidationBus} within their transaction, which only delivers them on commit, so that other nodes evict
+ * theirs. Until the transaction completes, the configuration is read from the store and not cached.
+ */
+public class CachingParticipantContextConfigStore implements ParticipantContextConfigStore {
+
+    private final ParticipantContextConfigStore delegate;
+    private final TtlCache<ParticipantContextConfiguration> cache;
+    private final InvalidationBus bus;
+    private final TransactionWrites writes;
+
+    CachingParticipantContextConfigStore(ParticipantContextConfigStore delegate, TtlCache<ParticipantContextConfiguration> cache,
+                                         InvalidationBus bus, TransactionContext transactionContext) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.bus = bus;
+        this.writes = new TransactionWrites(transactionContext, cache::evict);
+    }
+
+    @Override
+    public @Nullable ParticipantContextConfiguration get(String participantContextId) {
+        if (writes.contains(participantContextId)) {
+            return delegate.get(participantContextId);
+        }
+        var cached = cache.get(participantContextId);
+        if (cached != null) {
+            return cached;
+        }
+        var configuration = delegate.get(participantContextId);
+        if (configuration != null && !writes.isPending(participantContextId)) {
+            cache.put(participantContextId, configuration);
+        }
+        return configuration;
+    }
+
+    @Override
+    public void save(ParticipantContextConfiguration configuration) {
+        delegate.save(configuration);
+        writes.record(configuration.getParticipantContextId());
+        bus.publish(configuration.getParticipantContextId());
+    }
+
+    void evict(String participantContextId) {
+        cache.evict(participantContextId);
+    }
+
+    void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.Collection;
+
+/**
+ * {@link ParticipantContextStore} that reads participant contexts by id through a {@link TtlCache}.
+ * <p>
+ * Once the transaction of a write completes, the local entry is evicted. Writes are published on the
+ * {@link InvalidationBus} within their transaction, which only delivers them on commit, so that other nodes evict
+ * theirs. Until the transaction completes, the participant context is read from the store and not cached. Queries
+ * always go to the store.
+ */
+public class CachingParticipantContextStore implements ParticipantContextStore {
+
+    private final ParticipantContextStore delegate;
+    private final TtlCache<ParticipantContext> cache;
+    private final InvalidationBus bus;
+    private final TransactionWrites writes;
+
+    CachingParticipantContextStore(ParticipantContextStore delegate, TtlCache<ParticipantContext> cache, InvalidationBus bus,
+                                   TransactionContext transactionContext) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.bus = bus;
+        this.writes = new TransactionWrites(transactionContext, cache::evict);
+    }
+
+    @Override
+    public StoreResult<ParticipantContext> findById(String participantContextId) {
+        if (writes.contains(participantContextId)) {
+            return delegate.findById(participantContextId);
+        }
+        var cached = cache.get(participantContextId);
+        if (cached != null) {
+            return StoreResult.success(cached);
+        }
+        var result = delegate.findById(participantContextId);
+        if (result.succeeded() && !writes.isPending(participantContextId)) {
+            cache.put(participantContextId, result.getContent());
+        }
+        return result;
+    }
+
+    @Override
+    public StoreResult<Collection<ParticipantContext>> query(QuerySpec querySpec) {
+        return delegate.query(querySpec);
+    }
+
+    @Override
+    public StoreResult<Void> create(ParticipantContext participantContext) {
+        return changed(participantContext.getParticipantContextId(), delegate.create(participantContext));
+    }
+
+    @Override
+    public StoreResult<Void> update(ParticipantContext participantContext) {
+        return changed(participantContext.getParticipantContextId(), delegate.update(participantContext));
+    }
+
+    @Override
+    public StoreResult<Void> deleteById(String participantContextId) {
+        return changed(participantContextId, delegate.deleteById(participantContextId));
+    }
+
+    void evict(String participantContextId) {
+        cache.evict(participantContextId);
+    }
+
+    void clear() {
+        cache.clear();
+    }
+
+    private <T> StoreResult<T> changed(String participantContextId, StoreResult<T> result) {
+        if (result.succeeded()) {
+            writes.record(participantContextId);
+            bus.publish(participantContextId);
+        }
+        return result;
+    }
+}
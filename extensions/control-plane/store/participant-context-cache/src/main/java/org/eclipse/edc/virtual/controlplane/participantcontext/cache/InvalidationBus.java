@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Propagates the ids of changed participant contexts to the caches of all nodes.
+ */
+interface InvalidationBus {
+
+    /**
+     * Bus that only reaches the caches of the current node.
+     */
+    InvalidationBus LOCAL = new InvalidationBus() {
+        @Override
+        public void publish(String participantContextId) {
+        }
+
+        @Override
+        public void subscribe(Consumer<String> invalidated, Runnable lost) {
+        }
+    };
+
+    /**
+     * Notifies the other nodes that a participant context or its configuration changed.
+     */
+    void publish(String participantContextId);
+
+    /**
+     * Registers the callbacks invoked when another node changed a participant context, and when changes may have
+     * been missed.
+     */
+    void subscribe(Consumer<String> invalidated, Runnable lost);
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record ParticipantContextCacheConfig(
+        @Setting(key = "edc.participantcontext.cache.enabled", description = "Whether participant contexts and their configurations are cached in memory", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.participantcontext.cache.max-entries", description = "Max number of participant contexts, and of configurations, kept in memory", defaultValue = "10000")
+        int maxEntries,
+        @Setting(key = "edc.participantcontext.cache.ttl", description = "Time in seconds after which a cached entry is read again from the store", defaultValue = "300")
+        long ttl,
+        @Setting(key = "edc.participantcontext.cache.notify.enabled", description = "Whether changes are propagated to the other nodes with Postgres LISTEN/NOTIFY", defaultValue = "false")
+        boolean notifyEnabled,
+        @Setting(key = "edc.participantcontext.cache.notify.channel", description = "Postgres channel on which changes are notified", defaultValue = "edc_participant_context")
+        String notifyChannel,
+        @Setting(key = "edc.participantcontext.cache.notify.datasource", description = "Name of the datasource used to notify and listen for changes", defaultValue = "default")
+        String notifyDatasource
+) {
+
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import org.eclipse.edc.participantcontext.spi.config.model.ParticipantContextConfiguration;
+import org.eclipse.edc.participantcontext.spi.config.store.ParticipantContextConfigStore;
+import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.function.UnaryOperator;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.edc.virtual.controlplane.participantcontext.cache.ParticipantContextCacheExtension.NAME;
+
+@Provides({ ParticipantContextStore.class, ParticipantContextConfigStore.class })
+@Extension(NAME)
+public class ParticipantContextCacheExtension implements ServiceExtension {
+
+    public static final String NAME = "Participant Context Cache";
+
+    @Inject
+    private ParticipantContextStore participantContextStore;
+    @Inject
+    private ParticipantContextConfigStore participantContextConfigStore;
+    @Inject(required = false)
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private Monitor monitor;
+    @Inject
+    private Clock clock;
+    @Inject
+    private TypeManager typeManager;
+
+    @Configuration
+    private ParticipantContextCacheConfig config;
+
+    private PostgresInvalidationBus postgresBus;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (!config.enabled()) {
+            return;
+        }
+        var bus = InvalidationBus.LOCAL;
+        if (config.notifyEnabled() && dataSourceRegistry != null) {
+            postgresBus = new PostgresInvalidationBus(dataSourceRegistry, config.notifyDatasource(), config.notifyChannel(),
+                    transactionContext, monitor.withPrefix("ParticipantContextCache"));
+            bus = postgresBus;
+        }
+
+        var ttl = SECONDS.toMillis(config.ttl());
+        var store = new CachingParticipantContextStore(participantContextStore,
+                new TtlCache<>(config.maxEntries(), ttl, clock, copy(ParticipantContext.class)), bus, transactionContext);
+        var configStore = new CachingParticipantContextConfigStore(participantContextConfigStore,
+                new TtlCache<>(config.maxEntries(), ttl, clock, copy(ParticipantContextConfiguration.class)), bus, transactionContext);
+        bus.subscribe(id -> {
+            store.evict(id);
+            configStore.evict(id);
+        }, () -> {
+            store.clear();
+            configStore.clear();
+        });
+
+        context.registerService(ParticipantContextStore.class, store);
+        context.registerService(ParticipantContextConfigStore.class, configStore);
+    }
+
+    /**
+     * Deep copy through a JSON round trip, as participant contexts and their configurations are mutable.
+     */
+    private <V> UnaryOperator<V> copy(Class<V> type) {
+        return value -> {
+            try {
+                var mapper = typeManager.getMapper();
+                return mapper.readValue(mapper.writeValueAsBytes(value), type);
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        };
+    }
+
+    @Override
+    public void start() {
+        if (postgresBus != null) {
+            postgresBus.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (postgresBus != null) {
+            postgresBus.stop();
+        }
+    }
+}
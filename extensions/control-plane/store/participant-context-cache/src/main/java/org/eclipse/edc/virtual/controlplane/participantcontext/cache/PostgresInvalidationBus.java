@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.postgresql.PGConnection;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+
+/**
+ * {@link InvalidationBus} on Postgres LISTEN/NOTIFY.
+ * <p>
+ * Changes are notified within the transaction of the write, so other nodes only hear about them once they are
+ * committed. Notifications are received on a dedicated connection; when it breaks, notifications may have been
+ * missed, so subscribers are told to drop everything before listening again.
+ */
+class PostgresInvalidationBus implements InvalidationBus {
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final String channel;
+    private final TransactionContext transactionContext;
+    private final Monitor monitor;
+    private final ExecutorService executor;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private volatile Consumer<String> invalidated = id -> { };
+    private volatile Runnable lost = () -> { };
+
+    PostgresInvalidationBus(DataSourceRegistry dataSourceRegistry, String dataSourceName, String channel,
+                            TransactionContext transactionContext, Monitor monitor) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel: " + channel);
+        }
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.channel = channel;
+        this.transactionContext = transactionContext;
+        this.monitor = monitor;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("ParticipantContextInvalidationListener");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void publish(String participantContextId) {
+        try {
+            transactionContext.execute(() -> {
+                try (var connection = dataSource().getConnection();
+                     var statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                    statement.setString(1, channel);
+                    statement.setString(2, participantContextId);
+                    statement.execute();
+                } catch (SQLException e) {
+                    throw new EdcException(e);
+                }
+            });
+        } catch (Exception e) {
+            monitor.warning("Failed to notify the change of participant context %s, other nodes will see it once their entry expires"
+                    .formatted(participantContextId), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> invalidated, Runnable lost) {
+        this.invalidated = invalidated;
+        this.lost = lost;
+    }
+
+    void start() {
+        executor.execute(this::listen);
+    }
+
+    void stop() {
+        stopped.set(true);
+        executor.shutdownNow();
+    }
+
+    private void listen() {
+        while (!stopped.get()) {
+            try (var connection = dataSource().getConnection()) {
+                connection.setAutoCommit(true);
+                try (var statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                var pgConnection = connection.unwrap(PGConnection.class);
+                while (!stopped.get()) {
+                    var notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (var notification : notifications) {
+                            invalidated.accept(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (stopped.get()) {
+                    return;
+                }
+                monitor.warning("Lost the connection listening for participant context changes, reconnecting", e);
+                lost.run();
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private DataSource dataSource() {
+        var dataSource = dataSourceRegistry.resolve(dataSourceName);
+        if (dataSource == null) {
+            throw new EdcException("No datasource found with name: " + dataSourceName);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the participant contexts written by the transaction of the current thread, and hands them to a callback
+ * once that transaction completes, or right away if no transaction is active.
+ * <p>
+ * Until then, a lookup of such a participant context from the writing thread sees its uncommitted version, and one
+ * from any other thread may see the previous version, so neither must end up in the cache.
+ */
+class TransactionWrites {
+
+    private final TransactionContext transactionContext;
+    private final Consumer<String> completed;
+    private final ThreadLocal<Set<String>> written = ThreadLocal.withInitial(HashSet::new);
+    private final Map<String, Integer> pending = new ConcurrentHashMap<>();
+
+    TransactionWrites(TransactionContext transactionContext, Consumer<String> completed) {
+        this.transactionContext = transactionContext;
+        this.completed = completed;
+    }
+
+    void record(String id) {
+        var ids = written.get();
+        if (ids.isEmpty()) {
+            try {
+                transactionContext.registerSynchronization(this::complete);
+            } catch (IllegalStateException e) {
+                // no transaction is active, so the write is already committed
+                completed.accept(id);
+                return;
+            }
+        }
+        if (ids.add(id)) {
+            pending.merge(id, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Whether the transaction of the current thread wrote the participant context.
+     */
+    boolean contains(String id) {
+        return written.get().contains(id);
+    }
+
+    /**
+     * Whether the transaction of any thread wrote the participant context and has not completed yet.
+     */
+    boolean isPending(String id) {
+        return pending.containsKey(id);
+    }
+
+    private void complete() {
+        var ids = written.get();
+        written.remove();
+        ids.forEach(id -> {
+            pending.computeIfPresent(id, (key, count) -> count == 1 ? null : count - 1);
+            completed.accept(id);
+        });
+    }
+}
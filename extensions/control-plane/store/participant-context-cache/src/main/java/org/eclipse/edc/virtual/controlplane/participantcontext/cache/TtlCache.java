@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded, time-limited map, least recently used entries being evicted first. Values are copied in and out, so
+ * callers can mutate what they get without affecting the cache.
+ */
+class TtlCache<V> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final UnaryOperator<V> copy;
+    private final Map<String, Entry<V>> entries;
+
+    TtlCache(int maxEntries, long ttlMillis, Clock clock, UnaryOperator<V> copy) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.copy = copy;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > TtlCache.this.maxEntries;
+            }
+        };
+    }
+
+    @Nullable
+    synchronized V get(String key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.millis() - entry.cachedAt() > ttlMillis) {
+            entries.remove(key);
+            return null;
+        }
+        return copy.apply(entry.value());
+    }
+
+    synchronized void put(String key, V value) {
+        if (maxEntries > 0) {
+            entries.put(key, new Entry<>(copy.apply(value), clock.millis()));
+        }
+    }
+
+    synchronized void evict(String key) {
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long cachedAt) {
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.participantcontext.cache;
+
+import org.eclipse.edc.participantcontext.spi.store.ParticipantContextStore;
+import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingParticipantContextStoreTest {
+
+    private final ParticipantContextStore delegate = mock();
+    private final InvalidationBus bus = mock();
+    private final Clock clock = mock();
+    private final TransactionContext transactionContext = mock();
+    private final CachingParticipantContextStore store = new CachingParticipantContextStore(delegate,
+            new TtlCache<>(10, 1000, clock, participantContext -> participantContext(participantContext.getParticipantContextId())), bus, transactionContext);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    @Test
+    void findById_shouldReadThroughCache() {
+        var participantContext = participantContext("tenant");
+        when(delegate.findById("tenant")).thenReturn(StoreResult.success(participantContext));
+
+        store.findById("tenant");
+        var cached = store.findById("tenant").getContent();
+
+        assertThat(cached).isNotSameAs(participantContext).usingRecursiveComparison().isEqualTo(participantContext);
+        assertThat(store.findById("tenant").getContent()).isNotSameAs(cached);
+        verify(delegate).findById("tenant");
+    }
+
+    @Test
+    void findById_shouldNotCacheMisses() {
+        when(delegate.findById("tenant")).thenReturn(StoreResult.notFound("not found"));
+
+        store.findById("tenant");
+        store.findById("tenant");
+
+        verify(delegate, times(2)).findById("tenant");
+    }
+
+    @Test
+    void findById_shouldReload_whenTtlExpired() {
+        when(delegate.findById("tenant")).thenReturn(StoreResult.success(participantContext("tenant")));
+
+        store.findById("tenant");
+        when(clock.millis()).thenReturn(1001L);
+        store.findById("tenant");
+
+        verify(delegate, times(2)).findById("tenant");
+    }
+
+    @Test
+    void update_shouldEvictAndPublish_whenNoTransactionIsActive() {
+        doThrow(new IllegalStateException()).when(transactionContext).registerSynchronization(any());
+        var participantContext = participantContext("tenant");
+        when(delegate.findById("tenant")).thenReturn(StoreResult.success(participantContext));
+        when(delegate.update(any())).thenReturn(StoreResult.success());
+        store.findById("tenant");
+
+        store.update(participantContext);
+        store.findById("tenant");
+
+        verify(delegate, times(2)).findById("tenant");
+        verify(bus).publish("tenant");
+    }
+
+    @Test
+    void update_shouldEvictOnceWritingTransactionCompleted() {
+        var synchronization = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        when(delegate.findById("tenant")).thenReturn(StoreResult.success(participantContext("tenant")));
+        when(delegate.update(any())).thenReturn(StoreResult.success());
+        store.findById("tenant");
+
+        store.update(participantContext("tenant"));
+        store.findById("tenant");
+        store.findById("tenant");
+
+        verify(delegate, times(3)).findById("tenant");
+        verify(transactionContext).registerSynchronization(synchronization.capture());
+
+        synchronization.getValue().beforeCompletion();
+        store.findById("tenant");
+        store.findById("tenant");
+
+        verify(delegate, times(4)).findById("tenant");
+    }
+
+    @Test
+    void findById_shouldNotCache_whileWriteOfOtherThreadIsPending() throws InterruptedException {
+        var synchronization = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        when(delegate.findById("tenant")).thenReturn(StoreResult.success(participantContext("tenant")));
+        when(delegate.update(any())).thenReturn(StoreResult.success());
+        store.update(participantContext("tenant"));
+        verify(transactionContext).registerSynchronization(synchronization.capture());
+
+        var otherThread = new Thread(() -> {
+            store.findById("tenant");
+            store.findById("tenant");
+        });
+        otherThread.start();
+        otherThread.join();
+
+        verify(delegate, times(2)).findById("tenant");
+    }
+
+    @Test
+    void update_shouldNotPublish_whenWriteFailed() {
+        when(delegate.update(any())).thenReturn(StoreResult.notFound("not found"));
+
+        store.update(participantContext("tenant"));
+
+        verify(bus, never()).publish(any());
+    }
+
+    @Test
+    void evict_shouldDropRemotelyChangedEntry() {
+        when(delegate.findById("tenant")).thenReturn(StoreResult.success(participantContext("tenant")));
+        store.findById("tenant");
+
+        store.evict("tenant");
+        store.findById("tenant");
+
+        verify(delegate, times(2)).findById("tenant");
+    }
+
+    private ParticipantContext participantContext(String id) {
+        return ParticipantContext.Builder.newInstance()
+                .participantContextId(id)
+                .identity(id)
+                .build();
+    }
+}
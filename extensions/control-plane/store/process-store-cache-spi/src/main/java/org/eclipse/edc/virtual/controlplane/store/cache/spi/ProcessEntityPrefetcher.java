@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache.spi;
+
+import org.eclipse.edc.controlplane.tasks.Task;
+
+import java.util.Collection;
+
+/**
+ * Loads the contract negotiations and transfer processes referenced by a batch of claimed tasks up front, so that
+ * the task executors find them without querying the stores one by one.
+ */
+public interface ProcessEntityPrefetcher {
+
+    ProcessEntityPrefetcher NOOP = tasks -> () -> {
+    };
+
+    /**
+     * Prefetches the entities of the given tasks. The entities are released when the returned {@link Prefetch} is
+     * closed, at the latest when the batch has been handled.
+     *
+     * @param tasks the claimed tasks
+     * @return the handle releasing the prefetched entities
+     */
+    Prefetch prefetch(Collection<Task> tasks);
+
+    interface Prefetch extends AutoCloseable {
+        /**
+         * Releases the leases of the prefetched entities nobody took over.
+         */
+        @Override
+        void close();
+
+        /**
+         * Forgets the prefetched entities without releasing their leases, for when the transaction that leased them
+         * rolled back.
+         */
+        default void discard() {
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":extensions:control-plane:store:process-store-cache-spi"))
+    api(libs.edc.spi.core)
+    api(libs.edc.spi.contract)
+    api(libs.edc.spi.transfer)
+    api(libs.edc.spi.tasks)
+    api(libs.edc.spi.transaction)
+    testImplementation(libs.edc.junit)
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Leases several entities of a {@link StateEntityStore} at once.
+ */
+final class BatchLease {
+
+    private BatchLease() {
+    }
+
+    /**
+     * Leases the entities with the given ids through a single {@code nextNotLeased} call filtered on the ids. Ids
+     * missing from the result are either unknown or currently leased by someone else, callers that need to tell
+     * these apart fall back to {@link StateEntityStore#findByIdAndLease(String)}.
+     *
+     * @param store the store
+     * @param ids   the ids of the entities to lease
+     * @return the leased entities keyed by id
+     */
+    static <E extends StatefulEntity<E>> Map<String, E> leaseAll(StateEntityStore<E> store, Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return store.nextNotLeased(ids.size(), criterion("id", "in", ids)).stream()
+                .collect(Collectors.toMap(StatefulEntity::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.virtual.controlplane.store.cache.spi.ProcessEntityPrefetcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@link ContractNegotiationStore} that serves lookups and leases of the task path from the entities prefetched and
+ * leased for the current task batch, then from a near-cache of the entities recently leased or read by this node,
+ * and delegates everything else.
+ * <p>
+ * Leasing an entity that was not leased with its batch always goes to the store and refreshes the near-cache with
+ * the leased version. Saving an entity evicts it, since the write may still be rolled back, and the entity is not
+ * cached again by lookups of the writing transaction, which see the uncommitted version.
+ */
+public class CachingContractNegotiationStore implements ContractNegotiationStore {
+
+    private final ContractNegotiationStore delegate;
+    private final StoreProcessEntityPrefetcher prefetcher;
+    private final NearCache<ContractNegotiation> nearCache;
+    private final TransactionWrites writes;
+
+    CachingContractNegotiationStore(ContractNegotiationStore delegate, StoreProcessEntityPrefetcher prefetcher, NearCache<ContractNegotiation> nearCache, TransactionWrites writes) {
+        this.delegate = delegate;
+        this.prefetcher = prefetcher;
+        this.nearCache = nearCache;
+        this.writes = writes;
+    }
+
+    @Override
+    public @Nullable ContractNegotiation findById(String id) {
+        var prefetched = prefetcher.peekNegotiation(id);
+        if (prefetched != null) {
+            return prefetched;
+        }
+        var cached = nearCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        var loaded = delegate.findById(id);
+        if (loaded != null && !writes.contains(id)) {
+            nearCache.put(loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public @NotNull List<ContractNegotiation> nextNotLeased(int max, Criterion... criteria) {
+        return delegate.nextNotLeased(max, criteria);
+    }
+
+    @Override
+    public StoreResult<ContractNegotiation> findByIdAndLease(String id) {
+        var leased = prefetcher.takeNegotiation(id);
+        if (leased != null) {
+            nearCache.put(leased);
+            return StoreResult.success(leased);
+        }
+        var result = delegate.findByIdAndLease(id);
+        if (result.succeeded() && !writes.contains(id)) {
+            nearCache.put(result.getContent());
+        } else {
+            nearCache.evict(id);
+        }
+        return result;
+    }
+
+    /**
+     * Leases the entities with the given ids at once.
+     *
+     * @param ids the ids of the entities to lease
+     * @return the leased entities keyed by id, ids that are unknown or leased by someone else are missing
+     */
+    public Map<String, ContractNegotiation> findByIdsAndLease(Collection<String> ids) {
+        var leased = BatchLease.leaseAll(delegate, ids);
+        leased.values().forEach(nearCache::put);
+        return leased;
+    }
+
+    @Override
+    public void save(ContractNegotiation entity) {
+        prefetcher.evictNegotiation(entity.getId());
+        nearCache.evict(entity.getId());
+        writes.record(entity.getId());
+        delegate.save(entity);
+    }
+
+    @Override
+    public @Nullable ContractAgreement findContractAgreement(String contractId) {
+        return delegate.findContractAgreement(contractId);
+    }
+
+    @Override
+    public StoreResult<Void> deleteById(String negotiationId) {
+        prefetcher.evictNegotiation(negotiationId);
+        nearCache.evict(negotiationId);
+        return delegate.deleteById(negotiationId);
+    }
+
+    @Override
+    public @NotNull Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec) {
+        return delegate.queryNegotiations(querySpec);
+    }
+
+    @Override
+    public @NotNull Stream<ContractAgreement> queryAgreements(QuerySpec querySpec) {
+        return delegate.queryAgreements(querySpec);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, time-limited cache of the last known version of stateful entities.
+ * <p>
+ * The version of an entity is its state count, then its state timestamp. An entry never goes back to an older
+ * version: putting an entity older than the cached one means that it was written from a stale copy, so the entry
+ * is evicted instead and the next lookup goes to the store. Entities are copied in and out, so callers can mutate
+ * what they get without affecting the cache.
+ */
+class NearCache<E extends StatefulEntity<E>> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<String, Entry<E>> entries;
+
+    NearCache(int maxEntries, long ttlMillis, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<E>> eldest) {
+                return size() > NearCache.this.maxEntries;
+            }
+        };
+    }
+
+    @Nullable
+    synchronized E get(String id) {
+        var entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.millis() - entry.cachedAt() > ttlMillis) {
+            entries.remove(id);
+            return null;
+        }
+        return entry.entity().copy();
+    }
+
+    synchronized void put(E entity) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        var current = entries.get(entity.getId());
+        if (current != null && isOlder(entity, current.entity())) {
+            entries.remove(entity.getId());
+            return;
+        }
+        entries.put(entity.getId(), new Entry<>(entity.copy(), clock.millis()));
+    }
+
+    synchronized void evict(String id) {
+        entries.remove(id);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isOlder(E entity, E cached) {
+        if (entity.getStateCount() != cached.getStateCount()) {
+            return entity.getStateCount() < cached.getStateCount();
+        }
+        return entity.getStateTimestamp() < cached.getStateTimestamp();
+    }
+
+    private record Entry<E>(E entity, long cachedAt) {
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record ProcessStoreCacheConfig(
+        @Setting(key = "edc.store.process.cache.enabled", description = "Whether contract negotiations and transfer processes leased or read by this node are kept in a near-cache. " +
+                "Only safe when the tasks of a process are executed by a single node at a time", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.store.process.cache.max-entries", description = "Max number of entities kept per store", defaultValue = "10000")
+        int maxEntries,
+        @Setting(key = "edc.store.process.cache.ttl", description = "Time in milliseconds after which a cached entity is reloaded from the store", defaultValue = "5000")
+        long ttl
+) {
+
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.store.cache.spi.ProcessEntityPrefetcher;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.virtual.controlplane.store.cache.ProcessStoreCacheExtension.NAME;
+
+/**
+ * Decorates the contract negotiation and transfer process stores with the caches used on the task path.
+ */
+@Provides({ ContractNegotiationStore.class, TransferProcessStore.class })
+@Extension(NAME)
+public class ProcessStoreCacheExtension implements ServiceExtension {
+
+    public static final String NAME = "Process Store Cache";
+
+    @Inject
+    private ContractNegotiationStore negotiationStore;
+    @Inject
+    private TransferProcessStore transferProcessStore;
+    @Inject
+    private Monitor monitor;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private ProcessStoreCacheConfig config;
+
+    private StoreProcessEntityPrefetcher prefetcher;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        prefetcher = new StoreProcessEntityPrefetcher(negotiationStore, transferProcessStore, monitor.withPrefix("ProcessEntityPrefetcher"));
+        context.registerService(ContractNegotiationStore.class, new CachingContractNegotiationStore(negotiationStore, prefetcher, nearCache(),
+                new TransactionWrites(transactionContext)));
+        context.registerService(TransferProcessStore.class, new CachingTransferProcessStore(transferProcessStore, prefetcher, nearCache(),
+                new TransactionWrites(transactionContext)));
+    }
+
+    @Provider
+    public ProcessEntityPrefetcher processEntityPrefetcher() {
+        return prefetcher;
+    }
+
+    private <E extends StatefulEntity<E>> NearCache<E> nearCache() {
+        return new NearCache<>(config.enabled() ? config.maxEntries() : 0, config.ttl(), clock);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.ContractNegotiationTaskPayload;
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.virtual.controlplane.store.cache.spi.ProcessEntityPrefetcher;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prefetches and leases the entities of a task batch with one {@link BatchLease} call per store.
+ * <p>
+ * A leased entity is handed out once, to the first {@code findByIdAndLease} of its id, which then owns the lease.
+ * Plain lookups get a copy and leave the lease in place. Saving or deleting an entity discards it, so any later
+ * lookup goes to the store again. When the batch is closed, the leases nobody took over are released by saving the
+ * unchanged entities back.
+ */
+class StoreProcessEntityPrefetcher implements ProcessEntityPrefetcher {
+
+    private final ContractNegotiationStore negotiationStore;
+    private final TransferProcessStore transferProcessStore;
+    private final Monitor monitor;
+    private final Map<String, ContractNegotiation> negotiations = new ConcurrentHashMap<>();
+    private final Map<String, TransferProcess> transferProcesses = new ConcurrentHashMap<>();
+
+    StoreProcessEntityPrefetcher(ContractNegotiationStore negotiationStore, TransferProcessStore transferProcessStore, Monitor monitor) {
+        this.negotiationStore = negotiationStore;
+        this.transferProcessStore = transferProcessStore;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Prefetch prefetch(Collection<Task> tasks) {
+        var negotiationIds = processIds(tasks, ContractNegotiationTaskPayload.class);
+        var transferProcessIds = processIds(tasks, TransferProcessTaskPayload.class);
+
+        lease(negotiationStore, negotiationIds, negotiations);
+        lease(transferProcessStore, transferProcessIds, transferProcesses);
+
+        return new Prefetch() {
+            @Override
+            public void close() {
+                release(negotiationStore, negotiationIds, negotiations);
+                release(transferProcessStore, transferProcessIds, transferProcesses);
+            }
+
+            @Override
+            public void discard() {
+                negotiationIds.forEach(negotiations::remove);
+                transferProcessIds.forEach(transferProcesses::remove);
+            }
+        };
+    }
+
+    @Nullable
+    ContractNegotiation peekNegotiation(String id) {
+        var negotiation = negotiations.get(id);
+        return negotiation != null ? negotiation.copy() : null;
+    }
+
+    @Nullable
+    TransferProcess peekTransferProcess(String id) {
+        var transferProcess = transferProcesses.get(id);
+        return transferProcess != null ? transferProcess.copy() : null;
+    }
+
+    @Nullable
+    ContractNegotiation takeNegotiation(String id) {
+        return negotiations.remove(id);
+    }
+
+    @Nullable
+    TransferProcess takeTransferProcess(String id) {
+        return transferProcesses.remove(id);
+    }
+
+    void evictNegotiation(String id) {
+        negotiations.remove(id);
+    }
+
+    void evictTransferProcess(String id) {
+        transferProcesses.remove(id);
+    }
+
+    private List<String> processIds(Collection<Task> tasks, Class<? extends ProcessTaskPayload> payloadType) {
+        return tasks.stream()
+                .map(Task::getPayload)
+                .filter(payloadType::isInstance)
+                .map(payloadType::cast)
+                .map(ProcessTaskPayload::getProcessId)
+                .distinct()
+                .toList();
+    }
+
+    private <E extends StatefulEntity<E>> void lease(StateEntityStore<E> store, List<String> ids, Map<String, E> target) {
+        try {
+            target.putAll(BatchLease.leaseAll(store, ids));
+        } catch (Exception e) {
+            monitor.warning("Failed to prefetch %d entities, they will be loaded one by one".formatted(ids.size()), e);
+        }
+    }
+
+    private <E extends StatefulEntity<E>> void release(StateEntityStore<E> store, List<String> ids, Map<String, E> leased) {
+        for (var id : ids) {
+            var entity = leased.remove(id);
+            if (entity != null) {
+                try {
+                    store.save(entity);
+                } catch (Exception e) {
+                    monitor.warning("Failed to release lease of entity %s, it will be available once the lease expires".formatted(id), e);
+                }
+            }
+        }
+    }
+}
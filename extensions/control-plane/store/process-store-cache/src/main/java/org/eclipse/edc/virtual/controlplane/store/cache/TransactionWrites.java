@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tracks the entities written by the transaction of the current thread. Until that transaction completes, a lookup
+ * of such an entity sees its uncommitted version, which must not end up in the near-cache in case of a rollback.
+ */
+class TransactionWrites {
+
+    private final TransactionContext transactionContext;
+    private final ThreadLocal<Set<String>> written = ThreadLocal.withInitial(HashSet::new);
+
+    TransactionWrites(TransactionContext transactionContext) {
+        this.transactionContext = transactionContext;
+    }
+
+    void record(String id) {
+        var ids = written.get();
+        if (ids.isEmpty()) {
+            try {
+                transactionContext.registerSynchronization(written::remove);
+            } catch (IllegalStateException e) {
+                // no transaction is active, so the write is already committed
+                return;
+            }
+        }
+        ids.add(id);
+    }
+
+    boolean contains(String id) {
+        return written.get().contains(id);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.store.cache.spi.ProcessEntityPrefetcher;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingContractNegotiationStoreTest {
+
+    private final ContractNegotiationStore delegate = mock();
+    private final StoreProcessEntityPrefetcher prefetcher = new StoreProcessEntityPrefetcher(delegate, mock(TransferProcessStore.class), mock(Monitor.class));
+    private final TransactionContext transactionContext = mock();
+    private final CachingContractNegotiationStore store = new CachingContractNegotiationStore(delegate, prefetcher,
+            new NearCache<>(100, 60_000, Clock.systemUTC()), new TransactionWrites(transactionContext));
+
+    @Test
+    void save_shouldEvictCachedEntity() {
+        when(delegate.findById("negotiation-1")).thenReturn(negotiation("negotiation-1", 1));
+        store.findById("negotiation-1");
+
+        store.save(negotiation("negotiation-1", 2));
+        store.findById("negotiation-1");
+
+        verify(delegate, times(2)).findById("negotiation-1");
+    }
+
+    @Test
+    void findById_shouldNotCacheEntity_untilWritingTransactionCompleted() {
+        var synchronization = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        when(delegate.findById("negotiation-1")).thenReturn(negotiation("negotiation-1", 2));
+
+        store.save(negotiation("negotiation-1", 2));
+        store.findById("negotiation-1");
+        store.findById("negotiation-1");
+
+        verify(delegate, times(2)).findById("negotiation-1");
+        verify(transactionContext).registerSynchronization(synchronization.capture());
+
+        synchronization.getValue().beforeCompletion();
+        store.findById("negotiation-1");
+        store.findById("negotiation-1");
+
+        verify(delegate, times(3)).findById("negotiation-1");
+    }
+
+    @Test
+    void findById_shouldLoadOnceAndThenServeFromCache() {
+        when(delegate.findById("negotiation-1")).thenReturn(negotiation("negotiation-1", 1));
+
+        store.findById("negotiation-1");
+        store.findById("negotiation-1");
+
+        verify(delegate, times(1)).findById("negotiation-1");
+    }
+
+    @Test
+    void findByIdAndLease_shouldAlwaysGoToStore() {
+        store.save(negotiation("negotiation-1", 1));
+        when(delegate.findByIdAndLease("negotiation-1")).thenReturn(StoreResult.success(negotiation("negotiation-1", 1)));
+
+        store.findByIdAndLease("negotiation-1");
+
+        verify(delegate).findByIdAndLease("negotiation-1");
+    }
+
+    @Test
+    void findByIdAndLease_shouldEvictCachedEntity_whenStoreHasOlderVersion() {
+        when(delegate.findById("negotiation-1")).thenReturn(negotiation("negotiation-1", 2));
+        store.findById("negotiation-1");
+        when(delegate.findByIdAndLease("negotiation-1")).thenReturn(StoreResult.success(negotiation("negotiation-1", 1)));
+        when(delegate.findById("negotiation-1")).thenReturn(negotiation("negotiation-1", 1));
+
+        store.findByIdAndLease("negotiation-1");
+        store.findById("negotiation-1");
+
+        verify(delegate, times(2)).findById("negotiation-1");
+    }
+
+    @Test
+    void findByIdsAndLease_shouldLeaseAllInOneCall() {
+        var negotiation1 = negotiation("negotiation-1", 1);
+        var negotiation2 = negotiation("negotiation-2", 1);
+        when(delegate.nextNotLeased(anyInt(), any(Criterion[].class))).thenReturn(List.of(negotiation1, negotiation2));
+
+        var leased = store.findByIdsAndLease(List.of("negotiation-1", "negotiation-2", "negotiation-3"));
+
+        assertThat(leased).containsOnlyKeys("negotiation-1", "negotiation-2");
+        verify(delegate).nextNotLeased(anyInt(), any(Criterion[].class));
+        verify(delegate, never()).findByIdAndLease(any());
+    }
+
+    @Test
+    void deleteById_shouldEvictCachedEntity() {
+        when(delegate.findById("negotiation-1")).thenReturn(negotiation("negotiation-1", 1));
+        store.findById("negotiation-1");
+
+        store.deleteById("negotiation-1");
+        store.findById("negotiation-1");
+
+        verify(delegate, times(2)).findById("negotiation-1");
+    }
+
+    private ContractNegotiation negotiation(String id, int stateCount) {
+        var negotiation = mock(ContractNegotiation.class);
+        when(negotiation.getId()).thenReturn(id);
+        when(negotiation.getStateCount()).thenReturn(stateCount);
+        when(negotiation.copy()).thenReturn(negotiation);
+        return negotiation;
+    }
+}
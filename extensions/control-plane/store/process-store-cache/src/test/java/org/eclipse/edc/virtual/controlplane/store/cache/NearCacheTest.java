@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NearCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private final Clock clock = mock();
+    private final NearCache<ContractNegotiation> cache = new NearCache<>(2, 1000, clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(NOW);
+    }
+
+    @Test
+    void get_shouldReturnCopyOfCachedEntity() {
+        var negotiation = negotiation("negotiation-1", 1, 10);
+
+        cache.put(negotiation);
+
+        assertThat(cache.get("negotiation-1")).isNotSameAs(negotiation).extracting(ContractNegotiation::getId).isEqualTo("negotiation-1");
+    }
+
+    @Test
+    void get_shouldReturnNull_whenEntryExpired() {
+        cache.put(negotiation("negotiation-1", 1, 10));
+
+        when(clock.millis()).thenReturn(NOW + 1001);
+
+        assertThat(cache.get("negotiation-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_shouldReplaceEntryWithNewerVersion() {
+        cache.put(negotiation("negotiation-1", 1, 10));
+
+        cache.put(negotiation("negotiation-1", 2, 20));
+
+        assertThat(cache.get("negotiation-1")).extracting(ContractNegotiation::getStateCount).isEqualTo(2);
+    }
+
+    @Test
+    void put_shouldEvictEntry_whenVersionIsOlder() {
+        cache.put(negotiation("negotiation-1", 2, 20));
+
+        cache.put(negotiation("negotiation-1", 1, 30));
+
+        assertThat(cache.get("negotiation-1")).isNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenFull() {
+        cache.put(negotiation("negotiation-1", 1, 10));
+        cache.put(negotiation("negotiation-2", 1, 10));
+        cache.get("negotiation-1");
+
+        cache.put(negotiation("negotiation-3", 1, 10));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("negotiation-2")).isNull();
+        assertThat(cache.get("negotiation-1")).isNotNull();
+    }
+
+    @Test
+    void put_shouldDoNothing_whenDisabled() {
+        var disabled = new NearCache<ContractNegotiation>(0, 1000, clock);
+
+        disabled.put(negotiation("negotiation-1", 1, 10));
+
+        assertThat(disabled.get("negotiation-1")).isNull();
+    }
+
+    private ContractNegotiation negotiation(String id, int stateCount, long stateTimestamp) {
+        var copy = mock(ContractNegotiation.class);
+        when(copy.getId()).thenReturn(id);
+        when(copy.getStateCount()).thenReturn(stateCount);
+        when(copy.getStateTimestamp()).thenReturn(stateTimestamp);
+        when(copy.copy()).thenReturn(copy);
+
+        var negotiation = mock(ContractNegotiation.class);
+        when(negotiation.getId()).thenReturn(id);
+        when(negotiation.getStateCount()).thenReturn(stateCount);
+        when(negotiation.getStateTimestamp()).thenReturn(stateTimestamp);
+        when(negotiation.copy()).thenReturn(copy);
+        return negotiation;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.store.cache;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.RequestNegotiation;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.PrepareTransfer;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.virtual.controlplane.store.cache.spi.ProcessEntityPrefetcher;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StoreProcessEntityPrefetcherTest {
+
+    private final ContractNegotiationStore negotiationStore = mock();
+    private final TransferProcessStore transferProcessStore = mock();
+    private final StoreProcessEntityPrefetcher prefetcher = new StoreProcessEntityPrefetcher(negotiationStore, transferProcessStore, mock(Monitor.class));
+    private final CachingContractNegotiationStore cachingNegotiationStore = new CachingContractNegotiationStore(negotiationStore, prefetcher,
+            new NearCache<>(0, 0, Clock.systemUTC()), new TransactionWrites(new NoopTransactionContext()));
+    private final CachingTransferProcessStore cachingTransferProcessStore = new CachingTransferProcessStore(transferProcessStore, prefetcher,
+            new NearCache<>(0, 0, Clock.systemUTC()), new TransactionWrites(new NoopTransactionContext()));
+
+    @Test
+    void prefetch_shouldLeaseBatchWithOneCallPerStore() {
+        var negotiation1 = negotiation("negotiation-1");
+        var negotiation2 = negotiation("negotiation-2");
+        var transferProcess = transferProcess("transfer-1");
+        when(negotiationStore.nextNotLeased(anyInt(), any(Criterion[].class))).thenReturn(List.of(negotiation1, negotiation2));
+        when(transferProcessStore.nextNotLeased(anyInt(), any(Criterion[].class))).thenReturn(List.of(transferProcess));
+
+        try (var ignored = prefetcher.prefetch(List.of(negotiationTask("negotiation-1"), negotiationTask("negotiation-2"),
+                transferTask("transfer-1")))) {
+            assertThat(cachingNegotiationStore.findByIdAndLease("negotiation-1").getContent()).isSameAs(negotiation1);
+            assertThat(cachingNegotiationStore.findByIdAndLease("negotiation-2").getContent()).isSameAs(negotiation2);
+            assertThat(cachingTransferProcessStore.findByIdAndLease("transfer-1").getContent()).isSameAs(transferProcess);
+        }
+
+        var criterion = ArgumentCaptor.forClass(Criterion.class);
+        verify(negotiationStore).nextNotLeased(eq(2), criterion.capture());
+        assertThat(criterion.getValue().getOperandLeft()).isEqualTo("id");
+        assertThat(criterion.getValue().getOperator()).isEqualTo("in");
+        assertThat(criterion.getValue().getOperandRight()).isEqualTo(List.of("negotiation-1", "negotiation-2"));
+        verify(transferProcessStore, times(1)).nextNotLeased(anyInt(), any(Criterion[].class));
+        verify(negotiationStore, never()).findByIdAndLease(any());
+        verify(transferProcessStore, never()).findByIdAndLease(any());
+    }
+
+    @Test
+    void findByIdAndLease_shouldHandOutLeasedEntityOnce() {
+        var negotiation = negotiation("negotiation-1");
+        when(negotiationStore.nextNotLeased(anyInt(), any(Criterion[].class))).thenReturn(List.of(negotiation));
+
+        try (var ignored = prefetcher.prefetch(List.of(negotiationTask("negotiation-1")))) {
+            cachingNegotiationStore.findByIdAndLease("negotiation-1");
+            cachingNegotiationStore.findByIdAndLease("negotiation-1");
+        }
+
+        verify(negotiationStore, times(1)).findByIdAndLease("negotiation-1");
+    }
+
+    @Test
+    void findById_shouldServeCopyWithoutTakingOverLease() {
+        var negotiation = negotiation("negotiation-1");
+        when(negotiationStore.nextNotLeased(anyInt(), any(Criterion[].class))).thenReturn(List.of(negotiation));
+
+        try (var ignored = prefetcher.prefetch(List.of(negotiationTask("negotiation-1")))) {
+            assertThat(cachingNegotiationStore.findById("negotiation-1")).isNotNull();
+            assertThat(cachingNegotiationStore.findByIdAndLease("negotiation-1").getContent()).isSameAs(negotiation);
+        }
+
+        verify(negotiationStore, never()).findById(any());
+        verify(negotiationStore, never()).findByIdAndLease(any());
+    }
+
+    @Test
+    void save_shouldDiscardPrefetchedEntity() {
+        var negotiation = negotiation("negotiation-1");
+        when(negotiationStore.nextNotLeased(anyInt(), any(Criterion[].class))).thenReturn(List.of(negotiation));
+
+        try (var ignored = prefetcher.prefetch(List.of(negotiationTask("negotiation-1")))) {
+            cachingNegotiationStore.save(negotiation);
+            cachingNegotiationStore.findById("negotiation-1");
+        }
+
+        verify(negotiationStore, times(1)).save(negotiation);
+        verify(negotiationStore).findById("negotiation-1");
+    }
+
+    @Test
+    void close_shouldReleaseLeasesNotTakenOver() {
+        var negotiation = negotiation("negotiation-1");
+        when(negotiationStore.nextNotLeased(anyInt(), any(Criterion[].class))).thenReturn(List.of(negotiation));
+
+        prefetcher.prefetch(List.of(negotiationTask("negotiation-1"))).close();
+
+        verify(negotiationStore).save(negotiation);
+        assertThat(prefetcher.takeNegotiation("negotiation-1")).isNull();
+    }
+
+    @Test
+    void prefetch_shouldFallBackToStore_whenLeaseFails() {
+        when(negotiationStore.nextNotLeased(anyInt(), any(Criterion[].class))).thenThrow(new RuntimeException("database down"));
+
+        try (var ignored = prefetcher.prefetch(List.of(negotiationTask("negotiation-1")))) {
+            cachingNegotiationStore.findByIdAndLease("negotiation-1");
+        }
+
+        verify(negotiationStore).findByIdAndLease("negotiation-1");
+    }
+
+    private ContractNegotiation negotiation(String id) {
+        var negotiation = mock(ContractNegotiation.class);
+        when(negotiation.getId()).thenReturn(id);
+        when(negotiation.copy()).thenReturn(negotiation);
+        return negotiation;
+    }
+
+    private TransferProcess transferProcess(String id) {
+        var transferProcess = mock(TransferProcess.class);
+        when(transferProcess.getId()).thenReturn(id);
+        when(transferProcess.copy()).thenReturn(transferProcess);
+        return transferProcess;
+    }
+
+    private Task negotiationTask(String processId) {
+        return Task.Builder.newInstance().at(0).payload(RequestNegotiation.Builder.newInstance()
+                .processId(processId)
+                .processState(100)
+                .processType("CONSUMER")
+                .build()).build();
+    }
+
+    private Task transferTask(String processId) {
+        return Task.Builder.newInstance().at(0).payload(PrepareTransfer.Builder.newInstance()
+                .processId(processId)
+                .processState(100)
+                .processType("CONSUMER")
+                .build()).build();
+    }
+}
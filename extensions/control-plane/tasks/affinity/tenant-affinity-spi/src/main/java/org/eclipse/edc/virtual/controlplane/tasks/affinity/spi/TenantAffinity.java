@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.affinity.spi;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tells whether the current node owns a participant context, i.e. is the one expected to process its tasks.
+ * <p>
+ * Ownership is a preference, not a lock: tasks are still claimed from the store, so a task is never processed twice
+ * while ownership moves between nodes.
+ */
+@FunctionalInterface
+public interface TenantAffinity {
+
+    /**
+     * Affinity of a node that owns every participant context.
+     */
+    TenantAffinity ALL = participantContextId -> true;
+
+    /**
+     * Returns whether the current node owns the participant context. Tasks whose participant context is unknown are
+     * owned by every node, so they are not left behind.
+     */
+    boolean owns(@Nullable String participantContextId);
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.affinity;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.virtual.controlplane.tasks.affinity.spi.TenantAffinity;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link TenantAffinity} assigning participant contexts to the live nodes with a {@link ConsistentHashRing}.
+ * <p>
+ * On every heartbeat the node refreshes the set of live nodes and rebuilds the ring when it changed, so ownership
+ * rebalances when nodes join, leave or stop sending heartbeats. The current node is always part of its own ring: until
+ * it hears about the others, it owns every participant context.
+ */
+class RingTenantAffinity implements TenantAffinity {
+
+    private static final int PURGE_FACTOR = 10;
+
+    private final String nodeId;
+    private final SqlNodeMembership membership;
+    private final TenantAffinityConfig config;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final ScheduledExecutorService executor;
+    private volatile ConsistentHashRing ring;
+
+    RingTenantAffinity(String nodeId, SqlNodeMembership membership, TenantAffinityConfig config, Clock clock, Monitor monitor) {
+        this.nodeId = nodeId;
+        this.membership = membership;
+        this.config = config;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.ring = new ConsistentHashRing(List.of(nodeId), config.virtualNodes());
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("TenantAffinityHeartbeat");
+            return thread;
+        });
+    }
+
+    @Override
+    public boolean owns(@Nullable String participantContextId) {
+        return participantContextId == null || nodeId.equals(ring.owner(participantContextId));
+    }
+
+    void start() {
+        membership.createSchema();
+        heartbeat();
+        executor.scheduleWithFixedDelay(this::heartbeat, config.heartbeatPeriod(), config.heartbeatPeriod(), SECONDS);
+    }
+
+    void stop() {
+        executor.shutdownNow();
+        try {
+            membership.leave(nodeId);
+        } catch (Exception e) {
+            monitor.warning("Failed to leave the membership table, node will be considered gone once its heartbeat expires", e);
+        }
+    }
+
+    void heartbeat() {
+        try {
+            var now = clock.millis();
+            var expiry = SECONDS.toMillis(config.heartbeatExpiry());
+            var nodes = new HashSet<>(membership.heartbeat(nodeId, now, now - expiry, now - PURGE_FACTOR * expiry));
+            nodes.add(nodeId);
+            if (!nodes.equals(ring.nodes())) {
+                ring = new ConsistentHashRing(nodes, config.virtualNodes());
+                monitor.info("Membership changed, %d live nodes: participant contexts rebalanced".formatted(nodes.size()));
+            }
+        } catch (Exception e) {
+            monitor.warning("Failed to refresh the node membership", e);
+        }
+    }
+}
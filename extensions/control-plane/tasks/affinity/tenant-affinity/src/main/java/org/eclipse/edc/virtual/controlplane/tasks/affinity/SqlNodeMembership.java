@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.affinity;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import javax.sql.DataSource;
+
+/**
+ * Membership of the control-plane nodes, stored in Postgres: each node periodically writes its heartbeat, and the
+ * nodes whose heartbeat is recent enough are the live ones.
+ */
+class SqlNodeMembership {
+
+    private static final String SCHEMA = "node-membership-schema.sql";
+    private static final String HEARTBEAT = "INSERT INTO edc_controlplane_node (node_id, heartbeat) VALUES (?, ?) " +
+            "ON CONFLICT (node_id) DO UPDATE SET heartbeat = EXCLUDED.heartbeat";
+    private static final String LIVE_NODES = "SELECT node_id FROM edc_controlplane_node WHERE heartbeat >= ?";
+    private static final String LEAVE = "DELETE FROM edc_controlplane_node WHERE node_id = ?";
+    private static final String PURGE = "DELETE FROM edc_controlplane_node WHERE heartbeat < ?";
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+
+    SqlNodeMembership(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.transactionContext = transactionContext;
+    }
+
+    void createSchema() {
+        try (var stream = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(SCHEMA), SCHEMA)) {
+            var schema = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            execute(connection -> {
+                try (var statement = connection.createStatement()) {
+                    statement.execute(schema);
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Records the heartbeat of the node and returns the nodes whose heartbeat is not older than the cutoff. Nodes
+     * silent for longer than the purge cutoff are removed.
+     */
+    Set<String> heartbeat(String nodeId, long now, long liveCutoff, long purgeCutoff) {
+        return execute(connection -> {
+            try (var statement = connection.prepareStatement(HEARTBEAT)) {
+                statement.setString(1, nodeId);
+                statement.setLong(2, now);
+                statement.executeUpdate();
+            }
+            try (var statement = connection.prepareStatement(PURGE)) {
+                statement.setLong(1, purgeCutoff);
+                statement.executeUpdate();
+            }
+            var nodes = new HashSet<String>();
+            try (var statement = connection.prepareStatement(LIVE_NODES)) {
+                statement.setLong(1, liveCutoff);
+                try (var resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        nodes.add(resultSet.getString(1));
+                    }
+                }
+            }
+            return nodes;
+        });
+    }
+
+    void leave(String nodeId) {
+        execute(connection -> {
+            try (var statement = connection.prepareStatement(LEAVE)) {
+                statement.setString(1, nodeId);
+                statement.executeUpdate();
+            }
+            return null;
+        });
+    }
+
+    private <T> T execute(SqlFunction<T> function) {
+        return transactionContext.execute(() -> {
+            try (var connection = dataSource().getConnection()) {
+                return function.apply(connection);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private DataSource dataSource() {
+        var dataSource = dataSourceRegistry.resolve(dataSourceName);
+        if (dataSource == null) {
+            throw new EdcException("No datasource found with name: " + dataSourceName);
+        }
+        return dataSource;
+    }
+
+    @FunctionalInterface
+    private interface SqlFunction<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+}
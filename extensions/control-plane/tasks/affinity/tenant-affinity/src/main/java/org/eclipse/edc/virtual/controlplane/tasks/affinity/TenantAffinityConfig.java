@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.affinity;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record TenantAffinityConfig(
+        @Setting(key = "edc.tasks.affinity.enabled", description = "Whether participant contexts are assigned to control-plane nodes, each node only processing the tasks " +
+                "of the participant contexts it owns", defaultValue = "false")
+        boolean enabled,
+        @Setting(key = "edc.tasks.affinity.node-id", description = "Id of this node in the membership table. Defaults to a random id", required = false)
+        String nodeId,
+        @Setting(key = "edc.tasks.affinity.virtual-nodes", description = "Number of points of each node on the consistent-hash ring", defaultValue = "64")
+        int virtualNodes,
+        @Setting(key = "edc.tasks.affinity.heartbeat-period", description = "Interval in seconds between two heartbeats of this node", defaultValue = "10")
+        long heartbeatPeriod,
+        @Setting(key = "edc.tasks.affinity.heartbeat-expiry", description = "Time in seconds without heartbeat after which a node is considered gone and its " +
+                "participant contexts are reassigned", defaultValue = "30")
+        long heartbeatExpiry,
+        @Setting(key = "edc.tasks.affinity.datasource", description = "Name of the datasource holding the membership table", defaultValue = "default")
+        String datasource
+) {
+
+}
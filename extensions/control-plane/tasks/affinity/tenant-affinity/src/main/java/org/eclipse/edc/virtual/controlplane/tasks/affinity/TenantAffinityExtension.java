@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.affinity;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.tasks.affinity.spi.TenantAffinity;
+
+import java.time.Clock;
+import java.util.UUID;
+
+import static org.eclipse.edc.virtual.controlplane.tasks.affinity.TenantAffinityExtension.NAME;
+
+@Extension(NAME)
+public class TenantAffinityExtension implements ServiceExtension {
+
+    public static final String NAME = "Tenant Affinity";
+
+    @Inject(required = false)
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private Monitor monitor;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private TenantAffinityConfig config;
+
+    private RingTenantAffinity affinity;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public TenantAffinity tenantAffinity() {
+        if (!config.enabled() || dataSourceRegistry == null) {
+            return TenantAffinity.ALL;
+        }
+        if (affinity == null) {
+            var nodeId = config.nodeId() != null ? config.nodeId() : UUID.randomUUID().toString();
+            affinity = new RingTenantAffinity(nodeId, new SqlNodeMembership(dataSourceRegistry, config.datasource(), transactionContext),
+                    config, clock, monitor.withPrefix("TenantAffinity"));
+        }
+        return affinity;
+    }
+
+    @Override
+    public void start() {
+        if (affinity != null) {
+            affinity.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (affinity != null) {
+            affinity.stop();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.affinity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> TENANTS = IntStream.range(0, 10_000).mapToObj(i -> "tenant-" + i).toList();
+
+    @Test
+    void owner_shouldSpreadKeysAcrossNodes() {
+        var ring = new ConsistentHashRing(List.of("node-1", "node-2", "node-3"), 64);
+
+        var counts = TENANTS.stream().collect(Collectors.groupingBy(ring::owner, Collectors.counting()));
+
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(2_000L, 4_700L));
+    }
+
+    @Test
+    void owner_shouldBeStableForSameMembership() {
+        var ring = new ConsistentHashRing(List.of("node-1", "node-2"), 64);
+        var other = new ConsistentHashRing(List.of("node-2", "node-1"), 64);
+
+        assertThat(TENANTS).allSatisfy(tenant -> assertThat(ring.owner(tenant)).isEqualTo(other.owner(tenant)));
+    }
+
+    @Test
+    void owner_shouldOnlyMoveKeysToJoiningNode() {
+        var before = new ConsistentHashRing(List.of("node-1", "node-2", "node-3"), 64);
+        var after = new ConsistentHashRing(List.of("node-1", "node-2", "node-3", "node-4"), 64);
+
+        var owners = TENANTS.stream().collect(Collectors.toMap(identity(), before::owner));
+        var moved = TENANTS.stream().filter(tenant -> !owners.get(tenant).equals(after.owner(tenant))).toList();
+
+        assertThat(moved).allSatisfy(tenant -> assertThat(after.owner(tenant)).isEqualTo("node-4"));
+        assertThat(moved.size()).isLessThan(TENANTS.size() / 2);
+    }
+
+    @Test
+    void shouldRequireNodes() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 64)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -22,6 +22,8 @@ dependencies {
     api(libs.edc.spi.transaction)
     api(libs.edc.spi.transfer)
     api(libs.edc.spi.tasks)
+    implementation(project(":extensions:control-plane:store:process-store-cache-spi"))
+    implementation(project(":extensions:control-plane:tasks:affinity:tenant-affinity-spi"))
     testImplementation(libs.awaitility)
     testImplementation(libs.edc.junit)
     testImplementation(testFixtures(libs.edc.spi.contract))
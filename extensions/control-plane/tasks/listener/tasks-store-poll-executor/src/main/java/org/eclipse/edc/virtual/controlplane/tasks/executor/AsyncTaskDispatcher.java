@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor;
+
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+
+/**
+ * Runs tasks off the poll thread, so that the remote calls of many tasks are in flight at once, with bounds on the
+ * number of tasks in flight overall and per counterparty host.
+ * <p>
+ * A task first reserves a slot with {@link #tryReserve(Task, String)}, then is {@link #dispatch dispatched}: its
+ * handler runs on the dispatch executor and the returned future completes once the task itself has been completed.
+ * Tasks of the same process are chained, so they run one after the other in dispatch order, while tasks of different
+ * processes run in parallel.
+ */
+class AsyncTaskDispatcher {
+
+    private final int maxInFlightPerHost;
+    private final ExecutorService executor;
+    private final Monitor monitor;
+    private final Semaphore global;
+    private final Map<String, Semaphore> perHost = new ConcurrentHashMap<>();
+    private final Map<String, String> reservations = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> processes = new ConcurrentHashMap<>();
+
+    AsyncTaskDispatcher(int maxInFlight, int maxInFlightPerHost, ExecutorService executor, Monitor monitor) {
+        this.maxInFlightPerHost = maxInFlightPerHost;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.global = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Reserves a slot for the task, unless it is already in flight or its counterparty host or the dispatcher is
+     * saturated.
+     *
+     * @param task the task
+     * @param host the counterparty host the task talks to
+     * @return true if the task can be dispatched
+     */
+    boolean tryReserve(Task task, String host) {
+        if (reservations.containsKey(task.getId()) || !global.tryAcquire()) {
+            return false;
+        }
+        if (!perHost.computeIfAbsent(host, h -> new Semaphore(maxInFlightPerHost)).tryAcquire()) {
+            global.release();
+            return false;
+        }
+        reservations.put(task.getId(), host);
+        return true;
+    }
+
+    /**
+     * Releases the slot of a task that was reserved but will not be dispatched.
+     */
+    void release(Task task) {
+        var host = reservations.remove(task.getId());
+        if (host != null) {
+            perHost.get(host).release();
+            global.release();
+        }
+    }
+
+    /**
+     * Runs the handler of a reserved task once the previously dispatched tasks of its process are done, and hands its
+     * result to the completion, which is called with a transient failure if the handler throws. The slot is released
+     * once the completion returned.
+     */
+    CompletableFuture<Void> dispatch(Task task, Function<Task, StatusResult<Void>> handler, BiConsumer<Task, StatusResult<Void>> completion) {
+        var key = task.getPayload() instanceof ProcessTaskPayload payload ? payload.getProcessId() : task.getId();
+        var completed = new CompletableFuture<Void>();
+        var previous = processes.put(key, completed);
+        var ready = previous != null ? previous : CompletableFuture.<Void>completedFuture(null);
+        ready.thenApplyAsync(ignored -> handler.apply(task), executor)
+                .exceptionally(throwable -> StatusResult.failure(ERROR_RETRY, "Task handler failed: " + throwable.getMessage()))
+                .thenAccept(result -> completion.accept(task, result))
+                .whenComplete((ignored, throwable) -> {
+                    release(task);
+                    if (throwable != null) {
+                        monitor.severe("Failed to complete task " + task.getId(), throwable);
+                    }
+                    processes.remove(key, completed);
+                    completed.complete(null);
+                });
+        return completed;
+    }
+
+    int available() {
+        return global.availablePermits();
+    }
+
+    int inFlight() {
+        return reservations.size();
+    }
+
+    void stop(long timeoutSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutSeconds, SECONDS)) {
+                monitor.warning("%d tasks still in flight at shutdown, they will be picked up again once their claim expires".formatted(inFlight()));
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
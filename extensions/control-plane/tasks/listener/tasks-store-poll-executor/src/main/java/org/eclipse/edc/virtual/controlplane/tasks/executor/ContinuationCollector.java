@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor;
+
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.TaskListener;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the immediately-due tasks created by the current thread between {@link #begin()} and {@link #end()}.
+ */
+class ContinuationCollector implements TaskListener {
+
+    private final ThreadLocal<List<Task>> collected = new ThreadLocal<>();
+    private final Clock clock;
+
+    ContinuationCollector(Clock clock) {
+        this.clock = clock;
+    }
+
+    void begin() {
+        collected.set(new ArrayList<>());
+    }
+
+    List<Task> end() {
+        var tasks = collected.get();
+        collected.remove();
+        return tasks == null ? List.of() : tasks;
+    }
+
+    @Override
+    public void created(Task task) {
+        var tasks = collected.get();
+        if (tasks != null && task.getAt() <= clock.millis()) {
+            tasks.add(task);
+        }
+    }
+}
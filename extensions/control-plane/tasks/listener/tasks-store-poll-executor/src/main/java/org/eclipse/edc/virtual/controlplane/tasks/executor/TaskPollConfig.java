@@ -22,7 +22,27 @@ public record TaskPollConfig(
         @Setting(key = "edc.tasks.poll.shutdown-timeout", description = "Shutdown timeout for the task poller", defaultValue = "10")
         int shutdownTimeout,
         @Setting(key = "edc.tasks.poll.max-retry", description = "Max retries for task execution failure on transient errors", defaultValue = "3")
-        int maxRetries
+        int maxRetries,
+        @Setting(key = "edc.tasks.poll.inline-continuation", description = "Execute the immediately-due tasks created by a task right after its transaction commits, without waiting for the next poll", defaultValue = "false")
+        boolean inlineContinuation,
+        @Setting(key = "edc.tasks.poll.inline-continuation.max-depth", description = "Max number of follow-up tasks executed inline in a chain before yielding back to the poll loop", defaultValue = "10")
+        int inlineContinuationMaxDepth,
+        @Setting(key = "edc.tasks.poll.batch-size", description = "Max number of tasks claimed per poll. The entities of a batch are prefetched with one query per store", defaultValue = "1")
+        int batchSize,
+        @Setting(key = "edc.tasks.poll.async.enabled", description = "Handle claimed tasks on a pool of dispatch threads instead of the poll thread and complete them when their handling resolves, " +
+                "so that the remote calls of many tasks are in flight at once", defaultValue = "false")
+        boolean asyncDispatch,
+        @Setting(key = "edc.tasks.poll.async.max-in-flight", description = "Max number of tasks in flight when dispatching asynchronously. " +
+                "Each task in flight holds a dispatch thread until its handling returns", defaultValue = "32")
+        int asyncMaxInFlight,
+        @Setting(key = "edc.tasks.poll.async.max-in-flight-per-host", description = "Max number of tasks in flight towards a single counterparty host when dispatching asynchronously", defaultValue = "32")
+        int asyncMaxInFlightPerHost,
+        @Setting(key = "edc.tasks.poll.async.claim-timeout", description = "Time in seconds a task dispatched asynchronously is hidden from pollers. " +
+                "If it is not completed by then, e.g. because the node died, it is picked up again", defaultValue = "60")
+        long asyncClaimTimeout,
+        @Setting(key = "edc.tasks.poll.ownership.candidates", description = "Max number of tasks inspected per poll to find the ones of the participant contexts owned by this node, " +
+                "when tenant affinity is enabled", defaultValue = "100")
+        int ownershipCandidates
 ) {
 
 }
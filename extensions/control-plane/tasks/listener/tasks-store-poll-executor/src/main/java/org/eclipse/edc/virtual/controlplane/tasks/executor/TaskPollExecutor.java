@@ -17,6 +17,7 @@ package org.eclipse.edc.virtual.controlplane.tasks.executor;
 import org.eclipse.edc.controlplane.contract.spi.negotiation.ContractNegotiationTaskExecutor;
 import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.ContractNegotiationTaskPayload;
 import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.TaskObservable;
 import org.eclipse.edc.controlplane.tasks.store.TaskStore;
 import org.eclipse.edc.controlplane.transfer.spi.TransferProcessTaskExecutor;
 import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
@@ -26,17 +27,30 @@ import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.store.cache.spi.ProcessEntityPrefetcher;
+import org.eclipse.edc.virtual.controlplane.tasks.affinity.spi.TenantAffinity;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 
 public class TaskPollExecutor {
@@ -45,26 +59,31 @@ public class TaskPollExecutor {
     private final ContractNegotiationTaskExecutor contractNegotiationTaskExecutor;
     private final TransferProcessTaskExecutor transferProcessTaskExecutor;
     private final TaskStore taskStore;
+    private final ProcessEntityPrefetcher prefetcher;
+    private final Function<Collection<Task>, Map<String, TaskProcess>> processResolver;
+    private final TenantAffinity affinity;
     private final TransactionContext transactionContext;
     private final Monitor monitor;
     private final ScheduledExecutorService executor;
     private final Clock clock;
     private final AtomicBoolean active = new AtomicBoolean();
+    private final ContinuationCollector continuations;
+    private final AsyncTaskDispatcher dispatcher;
 
-    private final QuerySpec query = QuerySpec.Builder.newInstance()
-            .sortField("at")
-            .sortOrder(SortOrder.ASC)
-            .limit(1)
-            .build();
+    private final QuerySpec query;
 
 
     public TaskPollExecutor(TaskPollConfig taskPollConfig, ExecutorInstrumentation instrumentation, ContractNegotiationTaskExecutor contractNegotiationTaskExecutor,
-                            TransferProcessTaskExecutor transferProcessTaskExecutor, TaskStore taskStore, TransactionContext transactionContext,
-                            Monitor monitor, Clock clock) {
+                            TransferProcessTaskExecutor transferProcessTaskExecutor, TaskStore taskStore, TaskObservable taskObservable, ProcessEntityPrefetcher prefetcher,
+                            Function<Collection<Task>, Map<String, TaskProcess>> processResolver, TenantAffinity affinity,
+                            TransactionContext transactionContext, Monitor monitor, Clock clock) {
         this.taskPollConfig = taskPollConfig;
         this.contractNegotiationTaskExecutor = contractNegotiationTaskExecutor;
         this.transferProcessTaskExecutor = transferProcessTaskExecutor;
         this.taskStore = taskStore;
+        this.prefetcher = prefetcher;
+        this.processResolver = processResolver;
+        this.affinity = affinity;
         this.transactionContext = transactionContext;
         this.monitor = monitor;
 
@@ -75,6 +94,25 @@ public class TaskPollExecutor {
                     return thread;
                 }), "TaskPollExecutor");
         this.clock = clock;
+        this.query = QuerySpec.Builder.newInstance()
+                .sortField("at")
+                .sortOrder(SortOrder.ASC)
+                .limit(taskPollConfig.batchSize())
+                .build();
+
+        if (taskPollConfig.inlineContinuation()) {
+            continuations = new ContinuationCollector(clock);
+            taskObservable.registerListener(continuations);
+        } else {
+            continuations = null;
+        }
+
+        if (taskPollConfig.asyncDispatch()) {
+            dispatcher = new AsyncTaskDispatcher(taskPollConfig.asyncMaxInFlight(), taskPollConfig.asyncMaxInFlightPerHost(),
+                    instrumentation.instrument(dispatchExecutor(taskPollConfig.asyncMaxInFlight()), "TaskPollExecutor-dispatch"), monitor);
+        } else {
+            dispatcher = null;
+        }
     }
 
     /**
@@ -112,28 +150,193 @@ public class TaskPollExecutor {
             Thread.currentThread().interrupt();
         }
 
+        if (dispatcher != null) {
+            dispatcher.stop(taskPollConfig.shutdownTimeout());
+        }
     }
 
     private void run() {
-        if (active.get()) {
+        if (active.get() && dispatcher != null) {
+            try {
+                dispatchDueTasks();
+            } catch (Exception e) {
+                monitor.severe("TaskPollExecutor failed to dispatch tasks", e);
+            } finally {
+                scheduleNextIterationIn(100L);
+            }
+        } else if (active.get()) {
+            try {
+                var claimQuery = claimQuery(query);
+                if (claimQuery != null) {
+                    var followUps = executeCollectingFollowUps(() -> {
+                        var tasks = taskStore.fetchForUpdate(claimQuery);
+                        try (var prefetch = prefetcher.prefetch(tasks)) {
+                            for (var task : tasks) {
+                                executeTask(task);
+                            }
+                        }
+                    });
+                    runContinuations(followUps);
+                }
+            } catch (Exception e) {
+                monitor.severe("TaskPollExecutor failed to claim tasks", e);
+            } finally {
+                scheduleNextIterationIn(100L);
+            }
+        }
+    }
+
+    /**
+     * Claims the due tasks the dispatcher has room for and dispatches them once the claim committed. A dispatched task
+     * is claimed by moving it past the claim timeout, so that pollers skip it while it is in flight; it is handled in a
+     * transaction on a dispatch thread and completed in its own transaction once its handling resolves. The entities prefetched for the batch are released once all
+     * its tasks completed. If the claim fails, the reservations are released and the prefetched entities discarded.
+     */
+    private void dispatchDueTasks() {
+        var available = dispatcher.available();
+        if (available == 0) {
+            return;
+        }
+        var now = clock.millis();
+        var dueQuery = QuerySpec.Builder.newInstance()
+                .filter(criterion("at", "<=", now))
+                .sortField("at")
+                .sortOrder(SortOrder.ASC)
+                .limit(Math.min(taskPollConfig.batchSize(), available))
+                .build();
+        var claimQuery = claimQuery(dueQuery);
+        if (claimQuery == null) {
+            return;
+        }
+
+        var reserved = new ArrayList<Task>();
+        var prefetch = new AtomicReference<ProcessEntityPrefetcher.Prefetch>();
+        try {
             transactionContext.execute(() -> {
-                try {
-                    var tasks = taskStore.fetchForUpdate(query);
-                    for (var task : tasks) {
+                var tasks = taskStore.fetchForUpdate(claimQuery);
+                var processes = processResolver.apply(tasks);
+                for (var task : tasks) {
+                    if (dispatcher.tryReserve(task, TaskProcess.counterPartyHost(processes.get(task.getId())))) {
+                        reserved.add(task);
+                        taskStore.update(task.toBuilder().at(now + SECONDS.toMillis(taskPollConfig.asyncClaimTimeout())).build());
+                    }
+                }
+                prefetch.set(prefetcher.prefetch(reserved));
+            });
+        } catch (Exception e) {
+            reserved.forEach(dispatcher::release);
+            if (prefetch.get() != null) {
+                prefetch.get().discard();
+            }
+            throw e;
+        }
+
+        var futures = reserved.stream()
+                .map(task -> dispatcher.dispatch(task, dispatched -> transactionContext.execute(() -> handleTask(dispatched)), (completed, result) ->
+                        transactionContext.execute(() -> completeTask(completed, result))))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((ignored, throwable) -> transactionContext.execute(prefetch.get()::close));
+    }
+
+    /**
+     * Executes the immediately-due follow-up tasks created by a task right after its transaction committed, on
+     * this thread, instead of waiting for the next poll. The task rows remain the source of truth: a follow-up is
+     * only executed if it can be claimed from the store, so it is skipped if its creating transaction rolled back or
+     * another worker got it first.
+     */
+    private void runContinuations(List<Task> followUps) {
+        var pending = followUps;
+        var depth = 0;
+        while (!pending.isEmpty() && depth < taskPollConfig.inlineContinuationMaxDepth() && active.get()) {
+            var batch = pending;
+            pending = executeCollectingFollowUps(() -> {
+                for (var followUp : batch) {
+                    var claimed = taskStore.fetchForUpdate(QuerySpec.Builder.newInstance()
+                            .filter(criterion("id", "=", followUp.getId()))
+                            .limit(1)
+                            .build());
+                    for (var task : claimed) {
                         executeTask(task);
                     }
+                }
+            });
+            depth++;
+        }
+    }
+
+    /**
+     * Runs the block in a transaction and, when inline continuation is enabled, returns the immediately-due tasks it
+     * created.
+     */
+    private List<Task> executeCollectingFollowUps(Runnable block) {
+        List<Task> followUps = List.of();
+        if (continuations != null) {
+            continuations.begin();
+        }
+        try {
+            transactionContext.execute(() -> {
+                try {
+                    block.run();
                 } catch (Exception e) {
                     monitor.severe("TaskPollExecutor failed to process tasks", e);
-                } finally {
-                    scheduleNextIterationIn(100L);
                 }
             });
+        } finally {
+            if (continuations != null) {
+                followUps = continuations.end();
+            }
+        }
+        return followUps;
+    }
 
+    /**
+     * Returns the query claiming the tasks of this node among the ones matching the given query. Unless this node owns
+     * every participant context, up to {@code edc.tasks.poll.ownership.candidates} matching tasks are inspected first,
+     * in a short transaction of their own that leaves them untouched, and only the owned ones are claimed afterward.
+     * Tasks of other nodes are thus neither held locked while this node handles its batch nor take up room in it.
+     *
+     * @return the claim query, or null if none of the inspected tasks is owned by this node
+     */
+    @Nullable
+    private QuerySpec claimQuery(QuerySpec query) {
+        if (affinity == TenantAffinity.ALL) {
+            return query;
+        }
+        var owned = transactionContext.execute(() -> {
+            var candidates = taskStore.fetchForUpdate(QuerySpec.Builder.newInstance()
+                    .filter(query.getFilterExpression())
+                    .sortField("at")
+                    .sortOrder(SortOrder.ASC)
+                    .limit(Math.max(taskPollConfig.ownershipCandidates(), query.getLimit()))
+                    .build());
+            var processes = processResolver.apply(candidates);
+            return candidates.stream()
+                    .filter(task -> affinity.owns(participantContextId(processes.get(task.getId()))))
+                    .limit(query.getLimit())
+                    .map(Task::getId)
+                    .toList();
+        });
+        if (owned.isEmpty()) {
+            return null;
         }
+        return QuerySpec.Builder.newInstance()
+                .filter(criterion("id", "in", owned))
+                .sortField("at")
+                .sortOrder(SortOrder.ASC)
+                .limit(owned.size())
+                .build();
+    }
+
+    @Nullable
+    private String participantContextId(@Nullable TaskProcess process) {
+        return process != null ? process.participantContextId() : null;
     }
 
     private void executeTask(Task task) {
-        var result = handleTask(task);
+        completeTask(task, handleTask(task));
+    }
+
+    private void completeTask(Task task, StatusResult<Void> result) {
         if (result.succeeded()) {
             taskStore.delete(task.getId());
         } else {
@@ -152,6 +355,21 @@ public class TaskPollExecutor {
         }
     }
 
+    /**
+     * Creates the pool the dispatched tasks are handled on. A handler blocks its thread until the counterparty answered,
+     * so there is one thread per task in flight, bounded by {@code edc.tasks.poll.async.max-in-flight}. Idle threads are
+     * released.
+     */
+    private static ExecutorService dispatchExecutor(int maxInFlight) {
+        var pool = new ThreadPoolExecutor(maxInFlight, maxInFlight, 60, SECONDS, new LinkedBlockingQueue<>(), r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("TaskPollExecutor-dispatch");
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
     private StatusResult<Void> handleTask(Task task) {
         if (task.getPayload() instanceof ContractNegotiationTaskPayload cnPayload) {
             return contractNegotiationTaskExecutor.handle(cnPayload);
@@ -14,7 +14,10 @@
 
 package org.eclipse.edc.virtual.controlplane.tasks.executor;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.controlplane.contract.spi.negotiation.ContractNegotiationTaskExecutor;
+import org.eclipse.edc.controlplane.tasks.TaskObservable;
 import org.eclipse.edc.controlplane.tasks.store.TaskStore;
 import org.eclipse.edc.controlplane.transfer.spi.TransferProcessTaskExecutor;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
@@ -24,6 +27,8 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.store.cache.spi.ProcessEntityPrefetcher;
+import org.eclipse.edc.virtual.controlplane.tasks.affinity.spi.TenantAffinity;
 
 import java.time.Clock;
 
@@ -32,6 +37,16 @@ public class TaskPollExecutorExtension implements ServiceExtension {
     @Inject
     private TaskStore taskStore;
     @Inject
+    private TaskObservable taskObservable;
+    @Inject(required = false)
+    private ProcessEntityPrefetcher prefetcher;
+    @Inject
+    private ContractNegotiationStore negotiationStore;
+    @Inject
+    private TransferProcessStore transferProcessStore;
+    @Inject(required = false)
+    private TenantAffinity tenantAffinity;
+    @Inject
     private Monitor monitor;
     @Inject
     private TransactionContext transactionContext;
@@ -54,7 +69,9 @@ public class TaskPollExecutorExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         executor = new TaskPollExecutor(taskPollConfig, executorInstrumentation, contractNegotiationTaskExecutor, transferProcessTaskExecutor,
-                taskStore, transactionContext, monitor, clock);
+                taskStore, taskObservable, prefetcher != null ? prefetcher : ProcessEntityPrefetcher.NOOP, new TaskProcessResolver(negotiationStore, transferProcessStore),
+                tenantAffinity != null ? tenantAffinity : TenantAffinity.ALL,
+                transactionContext, monitor, clock);
     }
 
     @Override
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URI;
+
+/**
+ * The negotiation or transfer process a task belongs to, as far as the poll executor is concerned.
+ *
+ * @param participantContextId the participant context of the process
+ * @param counterPartyAddress  the address of the counterparty the process talks to
+ */
+record TaskProcess(@Nullable String participantContextId, @Nullable String counterPartyAddress) {
+
+    static final String UNKNOWN_HOST = "unknown";
+
+    /**
+     * Returns the host and port of the counterparty, or {@link #UNKNOWN_HOST} if the process is unknown or its
+     * address cannot be parsed.
+     */
+    static String counterPartyHost(@Nullable TaskProcess process) {
+        var address = process != null ? process.counterPartyAddress() : null;
+        if (address == null) {
+            return UNKNOWN_HOST;
+        }
+        try {
+            var uri = URI.create(address);
+            return uri.getHost() != null ? uri.getHost() + ":" + uri.getPort() : UNKNOWN_HOST;
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN_HOST;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.ContractNegotiationTaskPayload;
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Resolves the processes of a batch of tasks with one query per store, instead of one lookup per task.
+ */
+class TaskProcessResolver implements Function<Collection<Task>, Map<String, TaskProcess>> {
+
+    private final ContractNegotiationStore negotiationStore;
+    private final TransferProcessStore transferProcessStore;
+
+    TaskProcessResolver(ContractNegotiationStore negotiationStore, TransferProcessStore transferProcessStore) {
+        this.negotiationStore = negotiationStore;
+        this.transferProcessStore = transferProcessStore;
+    }
+
+    /**
+     * Resolves the processes of the tasks.
+     *
+     * @param tasks the tasks
+     * @return the processes keyed by task id, tasks whose process is unknown are missing
+     */
+    @Override
+    public Map<String, TaskProcess> apply(Collection<Task> tasks) {
+        var negotiationIds = processIds(tasks, ContractNegotiationTaskPayload.class);
+        var negotiations = negotiationIds.isEmpty() ? Map.<String, TaskProcess>of() :
+                negotiationStore.queryNegotiations(byIds(negotiationIds))
+                        .collect(Collectors.toMap(ContractNegotiation::getId, n -> new TaskProcess(n.getParticipantContextId(), n.getCounterPartyAddress())));
+        var transferProcessIds = processIds(tasks, TransferProcessTaskPayload.class);
+        var transferProcesses = transferProcessIds.isEmpty() ? Map.<String, TaskProcess>of() :
+                transferProcessStore.findAll(byIds(transferProcessIds))
+                        .collect(Collectors.toMap(TransferProcess::getId, t -> new TaskProcess(t.getParticipantContextId(), t.getCounterPartyAddress())));
+
+        var processes = new HashMap<String, TaskProcess>();
+        for (var task : tasks) {
+            TaskProcess process = null;
+            if (task.getPayload() instanceof ContractNegotiationTaskPayload payload) {
+                process = negotiations.get(payload.getProcessId());
+            } else if (task.getPayload() instanceof TransferProcessTaskPayload payload) {
+                process = transferProcesses.get(payload.getProcessId());
+            }
+            if (process != null) {
+                processes.put(task.getId(), process);
+            }
+        }
+        return processes;
+    }
+
+    private List<String> processIds(Collection<Task> tasks, Class<? extends ProcessTaskPayload> payloadType) {
+        return tasks.stream()
+                .map(Task::getPayload)
+                .filter(payloadType::isInstance)
+                .map(payloadType::cast)
+                .map(ProcessTaskPayload::getProcessId)
+                .distinct()
+                .toList();
+    }
+
+    private QuerySpec byIds(List<String> ids) {
+        return QuerySpec.Builder.newInstance()
+                .filter(criterion("id", "in", ids))
+                .limit(ids.size())
+                .build();
+    }
+}
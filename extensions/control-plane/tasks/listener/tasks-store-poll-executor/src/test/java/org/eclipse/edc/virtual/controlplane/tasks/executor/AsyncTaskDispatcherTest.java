@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.executor;
+
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.RequestNegotiation;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.mockito.Mockito.mock;
+
+class AsyncTaskDispatcherTest {
+
+    private final Map<String, String> hosts = Map.of(
+            "negotiation-1", "a:443", "negotiation-2", "a:443", "negotiation-3", "b:443", "negotiation-4", "c:443");
+    private final AsyncTaskDispatcher dispatcher = new AsyncTaskDispatcher(3, 2, Executors.newCachedThreadPool(), mock(Monitor.class));
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop(1);
+    }
+
+    @Test
+    void tryReserve_shouldBoundTasksPerHost() {
+        assertThat(dispatcher.tryReserve(task("negotiation-1"), hosts.get("negotiation-1"))).isTrue();
+        assertThat(dispatcher.tryReserve(task("negotiation-2"), hosts.get("negotiation-2"))).isTrue();
+        assertThat(dispatcher.tryReserve(task("negotiation-1"), hosts.get("negotiation-1"))).isFalse();
+        assertThat(dispatcher.tryReserve(task("negotiation-3"), hosts.get("negotiation-3"))).isTrue();
+    }
+
+    @Test
+    void tryReserve_shouldBoundTasksGlobally() {
+        dispatcher.tryReserve(task("negotiation-1"), hosts.get("negotiation-1"));
+        dispatcher.tryReserve(task("negotiation-2"), hosts.get("negotiation-2"));
+        dispatcher.tryReserve(task("negotiation-3"), hosts.get("negotiation-3"));
+
+        assertThat(dispatcher.tryReserve(task("negotiation-4"), hosts.get("negotiation-4"))).isFalse();
+        assertThat(dispatcher.available()).isZero();
+    }
+
+    @Test
+    void dispatch_shouldCompleteTaskAndReleaseSlot() {
+        var task = task("negotiation-1");
+        var completed = new AtomicReference<StatusResult<Void>>();
+        dispatcher.tryReserve(task, host(task));
+
+        dispatcher.dispatch(task, t -> StatusResult.success(), (t, result) -> completed.set(result)).join();
+
+        assertThat(completed.get().succeeded()).isTrue();
+        assertThat(dispatcher.inFlight()).isZero();
+        assertThat(dispatcher.available()).isEqualTo(3);
+    }
+
+    @Test
+    void dispatch_shouldCompleteWithTransientFailure_whenHandlerThrows() {
+        var task = task("negotiation-1");
+        var completed = new AtomicReference<StatusResult<Void>>();
+        dispatcher.tryReserve(task, host(task));
+
+        dispatcher.dispatch(task, t -> {
+            throw new RuntimeException("counterparty unreachable");
+        }, (t, result) -> completed.set(result)).join();
+
+        assertThat(completed.get().getFailure().status()).isEqualTo(ERROR_RETRY);
+        assertThat(dispatcher.inFlight()).isZero();
+    }
+
+    @Test
+    void dispatch_shouldKeepManyTasksInFlight() {
+        var blocker = new CompletableFuture<Void>();
+        var first = task("negotiation-1");
+        var second = task("negotiation-3");
+        dispatcher.tryReserve(first, host(first));
+        dispatcher.tryReserve(second, host(second));
+
+        var futures = CompletableFuture.allOf(
+                dispatcher.dispatch(first, t -> {
+                    blocker.join();
+                    return StatusResult.success();
+                }, (t, result) -> { }),
+                dispatcher.dispatch(second, t -> {
+                    blocker.join();
+                    return StatusResult.success();
+                }, (t, result) -> { }));
+
+        assertThat(dispatcher.inFlight()).isEqualTo(2);
+        blocker.complete(null);
+        futures.join();
+        assertThat(dispatcher.inFlight()).isZero();
+    }
+
+    @Test
+    void release_shouldFreeReservedSlot() {
+        var task = task("negotiation-1");
+        dispatcher.tryReserve(task, host(task));
+
+        dispatcher.release(task);
+
+        assertThat(dispatcher.inFlight()).isZero();
+        assertThat(dispatcher.available()).isEqualTo(3);
+    }
+
+    @Test
+    void dispatch_shouldRunTasksOfSameProcessInOrder() {
+        var blocker = new CompletableFuture<Void>();
+        var first = task("negotiation-1");
+        var second = task("negotiation-1");
+        var order = new ConcurrentLinkedQueue<String>();
+        dispatcher.tryReserve(first, host(first));
+        dispatcher.tryReserve(second, "other:443");
+
+        var futures = CompletableFuture.allOf(
+                dispatcher.dispatch(first, t -> {
+                    blocker.join();
+                    order.add(t.getId());
+                    return StatusResult.success();
+                }, (t, result) -> { }),
+                dispatcher.dispatch(second, t -> {
+                    order.add(t.getId());
+                    return StatusResult.success();
+                }, (t, result) -> { }));
+
+        assertThat(order).isEmpty();
+        blocker.complete(null);
+        futures.join();
+        assertThat(order).containsExactly(first.getId(), second.getId());
+    }
+
+    private String host(Task task) {
+        return hosts.get(((RequestNegotiation) task.getPayload()).getProcessId());
+    }
+
+    private Task task(String processId) {
+        return Task.Builder.newInstance().at(0).payload(RequestNegotiation.Builder.newInstance()
+                .processId(processId)
+                .processState(100)
+                .processType("CONSUMER")
+                .build()).build();
+    }
+}
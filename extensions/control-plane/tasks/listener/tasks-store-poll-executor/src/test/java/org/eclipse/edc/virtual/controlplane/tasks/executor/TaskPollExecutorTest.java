@@ -19,6 +19,8 @@ import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.ContractNegot
 import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.RequestNegotiation;
 import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
 import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.TaskListener;
+import org.eclipse.edc.controlplane.tasks.TaskObservable;
 import org.eclipse.edc.controlplane.tasks.store.TaskStore;
 import org.eclipse.edc.controlplane.transfer.spi.TransferProcessTaskExecutor;
 import org.eclipse.edc.controlplane.transfer.spi.tasks.PrepareTransfer;
@@ -28,14 +30,20 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
-import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.store.cache.spi.ProcessEntityPrefetcher;
+import org.eclipse.edc.virtual.controlplane.tasks.affinity.spi.TenantAffinity;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -43,9 +51,12 @@ import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,7 +66,10 @@ class TaskPollExecutorTest {
     private final ContractNegotiationTaskExecutor contractNegotiationTaskExecutor = mock();
     private final TransferProcessTaskExecutor transferProcessTaskExecutor = mock();
     private final TaskStore taskStore = mock();
-    private final TransactionContext transactionContext = new NoopTransactionContext();
+    private final TaskObservable taskObservable = mock();
+    private final ProcessEntityPrefetcher prefetcher = mock();
+    private final ProcessEntityPrefetcher.Prefetch prefetch = mock();
+    private final TrackingTransactionContext transactionContext = new TrackingTransactionContext();
     private final Monitor monitor = mock();
     private final ExecutorInstrumentation instrumentation = mock();
     private final Clock clock = Clock.systemUTC();
@@ -64,24 +78,36 @@ class TaskPollExecutorTest {
     @BeforeEach
     void setUp() {
         when(instrumentation.instrument(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(prefetcher.prefetch(any())).thenReturn(prefetch);
 
-        var cfg = new TaskPollConfig(10, 2);
-        pollExecutor = new TaskPollExecutor(
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, false, 10, 1, false, 1000, 32, 60, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pollExecutor.stop();
+    }
+
+    private TaskPollExecutor createPollExecutor(TaskPollConfig cfg) {
+        return createPollExecutor(cfg, TenantAffinity.ALL, tasks -> Map.of());
+    }
+
+    private TaskPollExecutor createPollExecutor(TaskPollConfig cfg, TenantAffinity affinity, Function<Collection<Task>, Map<String, TaskProcess>> processResolver) {
+        return new TaskPollExecutor(
                 cfg, instrumentation,
                 contractNegotiationTaskExecutor,
                 transferProcessTaskExecutor,
                 taskStore,
+                taskObservable,
+                prefetcher,
+                processResolver,
+                affinity,
                 transactionContext,
                 monitor,
                 clock
         );
     }
 
-    @AfterEach
-    void tearDown() {
-        pollExecutor.stop();
-    }
-
     @Test
     void start_shouldActivatePollExecutor() {
         when(taskStore.fetchForUpdate(any(QuerySpec.class))).thenReturn(List.of());
@@ -116,6 +142,41 @@ class TaskPollExecutorTest {
         );
     }
 
+    @Test
+    void run_shouldOnlyClaimOwnedTasks() {
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, false, 10, 1, false, 1000, 32, 60, 100),
+                participantContextId -> "owned-context".equals(participantContextId),
+                tasks -> tasks.stream().collect(Collectors.toMap(Task::getId, task ->
+                        new TaskProcess(((ProcessTaskPayload) task.getPayload()).getProcessId() + "-context", null))));
+        var foreign = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(PrepareTransfer.Builder.newInstance().processId("foreign").processState(100).processType("CONSUMER").build())
+                .build();
+        var owned = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(PrepareTransfer.Builder.newInstance().processId("owned").processState(100).processType("CONSUMER").build())
+                .build();
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(foreign, owned))
+                .thenReturn(List.of(owned))
+                .thenReturn(List.of());
+        when(transferProcessTaskExecutor.handle(any())).thenReturn(StatusResult.success());
+
+        pollExecutor.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> verify(taskStore).delete(owned.getId()));
+        verify(transferProcessTaskExecutor, times(1)).handle(any());
+        verify(taskStore, never()).delete(foreign.getId());
+        var queries = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(taskStore, atLeastOnce()).fetchForUpdate(queries.capture());
+        assertThat(queries.getAllValues().get(0).getLimit()).isEqualTo(100);
+        assertThat(queries.getAllValues().get(1).getFilterExpression()).singleElement().satisfies(criterion -> {
+            assertThat(criterion.getOperandLeft()).isEqualTo("id");
+            assertThat(criterion.getOperator()).isEqualTo("in");
+            assertThat(criterion.getOperandRight()).isEqualTo(List.of(owned.getId()));
+        });
+    }
+
     @Test
     void executeTask_shouldDeleteTaskOnSuccess() {
         var payload = PrepareTransfer.Builder.newInstance()
@@ -379,6 +440,278 @@ class TaskPollExecutorTest {
         });
     }
 
+    @Test
+    void run_shouldExecuteImmediatelyDueFollowUpInline_whenInlineContinuationEnabled() {
+        pollExecutor.stop();
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, true, 10, 1, false, 1000, 32, 60, 100));
+        var listener = ArgumentCaptor.forClass(TaskListener.class);
+        verify(taskObservable).registerListener(listener.capture());
+
+        var task = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(RequestNegotiation.Builder.newInstance()
+                        .processId("negotiation-123")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+        var followUp = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(PrepareTransfer.Builder.newInstance()
+                        .processId("transfer-123")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(task))
+                .thenReturn(List.of(followUp))
+                .thenReturn(List.of());
+        when(contractNegotiationTaskExecutor.handle(any())).thenAnswer(invocation -> {
+            listener.getValue().created(followUp);
+            return StatusResult.success();
+        });
+        when(transferProcessTaskExecutor.handle(any())).thenReturn(StatusResult.success());
+
+        pollExecutor.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(transferProcessTaskExecutor).handle(any(TransferProcessTaskPayload.class));
+            verify(taskStore).delete(followUp.getId());
+        });
+        var queries = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(taskStore, atLeastOnce()).fetchForUpdate(queries.capture());
+        assertThat(queries.getAllValues().get(1).getFilterExpression()).singleElement().satisfies(criterion -> {
+            assertThat(criterion.getOperandLeft()).isEqualTo("id");
+            assertThat(criterion.getOperandRight()).isEqualTo(followUp.getId());
+        });
+    }
+
+    @Test
+    void run_shouldNotExecuteFutureFollowUpInline() {
+        pollExecutor.stop();
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, true, 10, 1, false, 1000, 32, 60, 100));
+        var listener = ArgumentCaptor.forClass(TaskListener.class);
+        verify(taskObservable).registerListener(listener.capture());
+
+        var task = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(RequestNegotiation.Builder.newInstance()
+                        .processId("negotiation-123")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+        var delayed = task.toBuilder().at(System.currentTimeMillis() + 60_000).build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(task))
+                .thenReturn(List.of());
+        when(contractNegotiationTaskExecutor.handle(any())).thenAnswer(invocation -> {
+            listener.getValue().created(delayed);
+            return StatusResult.success();
+        });
+
+        pollExecutor.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                verify(taskStore, times(3)).fetchForUpdate(any(QuerySpec.class))
+        );
+        var queries = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(taskStore, atLeastOnce()).fetchForUpdate(queries.capture());
+        assertThat(queries.getAllValues()).allSatisfy(query ->
+                assertThat(query.getFilterExpression()).noneMatch(criterion -> "id".equals(criterion.getOperandLeft())));
+    }
+
+    @Test
+    void run_shouldPrefetchEntitiesOfClaimedBatch() {
+        pollExecutor.stop();
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, false, 10, 5, false, 1000, 32, 60, 100));
+
+        var task1 = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(RequestNegotiation.Builder.newInstance()
+                        .processId("negotiation-1")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+        var task2 = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(PrepareTransfer.Builder.newInstance()
+                        .processId("transfer-1")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(task1, task2))
+                .thenReturn(List.of());
+        when(contractNegotiationTaskExecutor.handle(any())).thenReturn(StatusResult.success());
+        when(transferProcessTaskExecutor.handle(any())).thenReturn(StatusResult.success());
+
+        pollExecutor.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(prefetcher).prefetch(List.of(task1, task2));
+            verify(taskStore, times(2)).delete(any());
+            verify(prefetch, atLeastOnce()).close();
+        });
+        var query = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(taskStore, atLeastOnce()).fetchForUpdate(query.capture());
+        assertThat(query.getValue().getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void run_shouldDispatchDueTasksAsynchronously_whenAsyncEnabled() {
+        pollExecutor.stop();
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, false, 10, 5, true, 1000, 32, 60, 100));
+
+        var task = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(RequestNegotiation.Builder.newInstance()
+                        .processId("negotiation-1")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(task))
+                .thenReturn(List.of());
+        when(contractNegotiationTaskExecutor.handle(any())).thenReturn(StatusResult.success());
+
+        pollExecutor.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(taskStore).update(argThat(claimed -> claimed.getId().equals(task.getId()) && claimed.getAt() > System.currentTimeMillis()));
+            verify(contractNegotiationTaskExecutor).handle(any());
+            verify(taskStore).delete(task.getId());
+            verify(prefetch, atLeastOnce()).close();
+        });
+        var query = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(taskStore, atLeastOnce()).fetchForUpdate(query.capture());
+        assertThat(query.getAllValues().get(0).getFilterExpression()).singleElement()
+                .satisfies(criterion -> assertThat(criterion.getOperandLeft()).isEqualTo("at"));
+    }
+
+    @Test
+    void run_shouldHandleDispatchedTaskInTransaction_whenAsyncEnabled() {
+        pollExecutor.stop();
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, false, 10, 5, true, 1000, 32, 60, 100));
+
+        var task = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(PrepareTransfer.Builder.newInstance()
+                        .processId("transfer-1")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(task))
+                .thenReturn(List.of());
+        when(transferProcessTaskExecutor.handle(any())).thenAnswer(invocation ->
+                transactionContext.isActive() ? StatusResult.success() : StatusResult.failure(FATAL_ERROR, "no transaction"));
+
+        pollExecutor.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> verify(taskStore).delete(task.getId()));
+        verify(monitor, never()).severe(contains("Fatal error"));
+    }
+
+    @Test
+    void run_shouldRescheduleTask_whenAsyncHandlingFails() {
+        pollExecutor.stop();
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, false, 10, 5, true, 1000, 32, 60, 100));
+
+        var task = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(PrepareTransfer.Builder.newInstance()
+                        .processId("transfer-1")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(task))
+                .thenReturn(List.of());
+        when(transferProcessTaskExecutor.handle(any())).thenThrow(new RuntimeException("counterparty unreachable"));
+
+        pollExecutor.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                verify(taskStore).update(argThat(updated -> updated.getRetryCount() == task.getRetryCount() + 1))
+        );
+    }
+
+    @Test
+    void run_shouldReleaseReservationsAndDiscardPrefetch_whenClaimFails() {
+        pollExecutor.stop();
+        pollExecutor = createPollExecutor(new TaskPollConfig(10, 2, false, 10, 5, true, 1, 32, 60, 100));
+
+        var task = Task.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(PrepareTransfer.Builder.newInstance()
+                        .processId("transfer-1")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+
+        when(taskStore.fetchForUpdate(any(QuerySpec.class)))
+                .thenReturn(List.of(task))
+                .thenReturn(List.of(task))
+                .thenReturn(List.of());
+        when(prefetcher.prefetch(any()))
+                .thenThrow(new RuntimeException("lease failed"))
+                .thenReturn(prefetch);
+        when(transferProcessTaskExecutor.handle(any())).thenReturn(StatusResult.success());
+
+        pollExecutor.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(monitor).severe(any(String.class), any(Exception.class));
+            verify(transferProcessTaskExecutor).handle(any());
+            verify(taskStore).delete(task.getId());
+        });
+    }
+
+    /**
+     * Transaction context telling whether the current thread runs inside a transaction
+     */
+    private static class TrackingTransactionContext extends NoopTransactionContext {
+
+        private final ThreadLocal<Boolean> active = ThreadLocal.withInitial(() -> false);
+
+        @Override
+        public void execute(TransactionBlock block) {
+            execute(() -> {
+                block.execute();
+                return null;
+            });
+        }
+
+        @Override
+        public <T> T execute(ResultTransactionBlock<T> block) {
+            var outer = active.get();
+            active.set(true);
+            try {
+                return super.execute(block);
+            } finally {
+                active.set(outer);
+            }
+        }
+
+        boolean isActive() {
+            return active.get();
+        }
+    }
+
     /**
      * Unknown task payload for testing handler logic
      */
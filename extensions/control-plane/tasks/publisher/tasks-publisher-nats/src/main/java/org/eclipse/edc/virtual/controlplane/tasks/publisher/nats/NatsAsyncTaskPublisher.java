@@ -0,0 +1,248 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.publisher.nats;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nats.client.JetStream;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.PublishAck;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.TaskListener;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Publishes created tasks to NATS JetStream without waiting for the broker ack on the caller thread.
+ * <p>
+ * Publications are pipelined with {@link JetStream#publishAsync} and bounded by a window of pending acks. When the
+ * window is full, the publication is queued and sent once an ack frees a slot, so the thread creating the task never
+ * waits. A publication queued for longer than the window timeout, or not acked, is republished with exponential
+ * backoff. Once the retries are exhausted the task is left in the {@code TaskStore}, which acts as the outbox for
+ * the NATS path.
+ */
+public class NatsAsyncTaskPublisher implements TaskListener {
+
+    private final JetStream jetStream;
+    private final ObjectMapper mapper;
+    private final NatsTaskSubjects subjects;
+    private final NatsTaskPublisherConfig config;
+    private final Monitor monitor;
+    private final Semaphore window;
+    private final ScheduledExecutorService retryExecutor;
+    private final Queue<Publication> backlog = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean active = new AtomicBoolean(true);
+
+    public NatsAsyncTaskPublisher(JetStream jetStream, ObjectMapper mapper, NatsTaskSubjects subjects,
+                                  NatsTaskPublisherConfig config, Monitor monitor) {
+        this.jetStream = jetStream;
+        this.mapper = mapper;
+        this.subjects = subjects;
+        this.config = config;
+        this.monitor = monitor;
+        this.window = new Semaphore(config.maxPendingAcks());
+        this.retryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("NatsTaskPublisherRetry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void created(Task task) {
+        publish(task);
+    }
+
+    /**
+     * Publishes a task asynchronously.
+     *
+     * @param task the task to publish
+     * @return a future completed with the ack of the publication, or exceptionally when all the attempts failed.
+     *         Completes with null if the task is not routed through NATS.
+     */
+    public CompletableFuture<PublishAck> publish(Task task) {
+        var subject = subjects.subjectFor(task);
+        if (subject == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        byte[] body;
+        try {
+            body = mapper.writeValueAsBytes(task);
+        } catch (JsonProcessingException e) {
+            monitor.severe("Failed to serialize task " + task.getId(), e);
+            return CompletableFuture.failedFuture(new EdcException("Failed to serialize task " + task.getId(), e));
+        }
+
+        var options = PublishOptions.builder()
+                .messageId(task.getId() + ":" + task.getRetryCount())
+                .build();
+
+        var result = new CompletableFuture<PublishAck>();
+        attempt(task.getId(), subject, body, options, 0, result);
+        return result;
+    }
+
+    /**
+     * Number of publications currently waiting for a JetStream ack.
+     */
+    public int pendingAcks() {
+        return config.maxPendingAcks() - window.availablePermits();
+    }
+
+    /**
+     * Stops accepting retries, fails the queued publications and waits for the pending acks to drain.
+     */
+    public void stop() {
+        active.set(false);
+        Publication queued;
+        while ((queued = backlog.poll()) != null) {
+            retryOrFail(queued, new EdcException("publisher stopped"));
+        }
+        try {
+            if (window.tryAcquire(config.maxPendingAcks(), config.ackTimeout(), MILLISECONDS)) {
+                window.release(config.maxPendingAcks());
+            } else {
+                monitor.warning("NatsAsyncTaskPublisher stopped with %d publications still awaiting an ack".formatted(pendingAcks()));
+            }
+            retryExecutor.shutdown();
+            if (!retryExecutor.awaitTermination(1, SECONDS)) {
+                retryExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            retryExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void attempt(String taskId, String subject, byte[] body, PublishOptions options, int attempt, CompletableFuture<PublishAck> result) {
+        var publication = new Publication(taskId, subject, body, options, attempt, result, System.nanoTime());
+        if (window.tryAcquire()) {
+            send(publication);
+        } else {
+            backlog.add(publication);
+            try {
+                retryExecutor.schedule(this::expireBacklog, config.windowTimeout(), MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // the publisher is stopping, the backlog is failed by stop()
+            }
+            drainBacklog();
+        }
+    }
+
+    /**
+     * Sends the publication, a slot of the window being held for it.
+     */
+    private void send(Publication publication) {
+        CompletableFuture<PublishAck> ack;
+        try {
+            ack = jetStream.publishAsync(publication.subject(), publication.body(), publication.options());
+        } catch (Exception e) {
+            releaseSlot();
+            retryOrFail(publication, e);
+            return;
+        }
+
+        ack.orTimeout(config.ackTimeout(), MILLISECONDS)
+                .whenComplete((publishAck, throwable) -> {
+                    releaseSlot();
+                    if (throwable == null) {
+                        publication.result().complete(publishAck);
+                    } else {
+                        retryOrFail(publication, throwable);
+                    }
+                });
+    }
+
+    private void releaseSlot() {
+        window.release();
+        drainBacklog();
+    }
+
+    /**
+     * Hands the queued publications over to the retry executor as long as slots are free. Publications queued for
+     * longer than the window timeout are retried with backoff instead.
+     */
+    private void drainBacklog() {
+        while (!backlog.isEmpty() && window.tryAcquire()) {
+            var next = backlog.poll();
+            if (next == null) {
+                window.release();
+                return;
+            }
+            if (System.nanoTime() - next.queuedAt() > MILLISECONDS.toNanos(config.windowTimeout())) {
+                window.release();
+                retryOrFail(next, new EdcException("pending-ack window is full"));
+                continue;
+            }
+            try {
+                retryExecutor.execute(() -> send(next));
+            } catch (RejectedExecutionException e) {
+                window.release();
+                retryOrFail(next, e);
+            }
+        }
+    }
+
+    /**
+     * Retries with backoff the publications that did not get a slot within the window timeout.
+     */
+    private void expireBacklog() {
+        var timeout = MILLISECONDS.toNanos(config.windowTimeout());
+        for (var publication : backlog) {
+            if (System.nanoTime() - publication.queuedAt() > timeout && backlog.remove(publication)) {
+                retryOrFail(publication, new EdcException("pending-ack window is full"));
+            }
+        }
+    }
+
+    private void retryOrFail(Publication publication, Throwable cause) {
+        var taskId = publication.taskId();
+        var subject = publication.subject();
+        var attempt = publication.attempt();
+        if (active.get() && attempt < config.maxRetries()) {
+            var delay = config.retryDelay() << attempt;
+            monitor.warning("Failed to publish task %s to %s (attempt %d): %s. Retrying in %d ms"
+                    .formatted(taskId, subject, attempt + 1, cause.getMessage(), delay));
+            try {
+                retryExecutor.schedule(() -> attempt(taskId, subject, publication.body(), publication.options(), attempt + 1, publication.result()),
+                        delay, MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException e) {
+                cause.addSuppressed(e);
+            }
+        }
+        monitor.severe("Failed to publish task %s to %s after %d attempts. The task is left in the TaskStore"
+                .formatted(taskId, subject, attempt + 1), cause);
+        publication.result().completeExceptionally(cause);
+    }
+
+    private record Publication(String taskId, String subject, byte[] body, PublishOptions options, int attempt,
+                               CompletableFuture<PublishAck> result, long queuedAt) {
+    }
+}
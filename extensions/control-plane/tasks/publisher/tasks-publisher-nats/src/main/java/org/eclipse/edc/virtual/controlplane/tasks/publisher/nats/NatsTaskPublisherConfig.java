@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.publisher.nats;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+import org.eclipse.edc.spi.system.configuration.Config;
+
+/**
+ * Settings of the asynchronous publisher. The connection and subject settings fall back to the ones of the upstream
+ * NATS publishers when they are not set, so that the publisher can replace them without reconfiguring the runtime.
+ */
+@Settings
+public record NatsTaskPublisherConfig(
+        @Setting(key = "edc.nats.tasks.publisher.url", description = "URL of the NATS server tasks are published to", defaultValue = "nats://localhost:4222")
+        String url,
+        @Setting(key = "edc.nats.tasks.publisher.negotiation.subject-prefix", description = "Subject prefix for contract negotiation tasks", defaultValue = "negotiations")
+        String negotiationSubjectPrefix,
+        @Setting(key = "edc.nats.tasks.publisher.transfer.subject-prefix", description = "Subject prefix for transfer process tasks", defaultValue = "transfers")
+        String transferSubjectPrefix,
+        @Setting(key = "edc.nats.tasks.publisher.max-pending-acks", description = "Max number of publications awaiting a JetStream ack at any time", defaultValue = "256")
+        int maxPendingAcks,
+        @Setting(key = "edc.nats.tasks.publisher.window-timeout", description = "Max time in milliseconds a publication is queued for a free slot in the pending-ack window before it is retried with backoff", defaultValue = "50")
+        long windowTimeout,
+        @Setting(key = "edc.nats.tasks.publisher.ack-timeout", description = "Max time in milliseconds to wait for a JetStream ack", defaultValue = "5000")
+        long ackTimeout,
+        @Setting(key = "edc.nats.tasks.publisher.max-retries", description = "Max republish attempts for a task whose publication failed", defaultValue = "3")
+        int maxRetries,
+        @Setting(key = "edc.nats.tasks.publisher.retry-delay", description = "Base delay in milliseconds between republish attempts, doubled on every attempt", defaultValue = "200")
+        long retryDelay
+) {
+
+    private static final String UPSTREAM_NEGOTIATION_URL = "edc.nats.cn.publisher.url";
+    private static final String UPSTREAM_NEGOTIATION_SUBJECT_PREFIX = "edc.nats.cn.publisher.subject-prefix";
+    private static final String UPSTREAM_TRANSFER_URL = "edc.nats.tp.publisher.url";
+    private static final String UPSTREAM_TRANSFER_SUBJECT_PREFIX = "edc.nats.tp.publisher.subject-prefix";
+
+    /**
+     * Returns the settings with the values of the upstream publisher keys applied where the own keys are not set.
+     *
+     * @param config the runtime configuration
+     */
+    public NatsTaskPublisherConfig withUpstreamFallback(Config config) {
+        return new NatsTaskPublisherConfig(
+                fallback(config, "edc.nats.tasks.publisher.url", url, UPSTREAM_NEGOTIATION_URL, UPSTREAM_TRANSFER_URL),
+                fallback(config, "edc.nats.tasks.publisher.negotiation.subject-prefix", negotiationSubjectPrefix, UPSTREAM_NEGOTIATION_SUBJECT_PREFIX),
+                fallback(config, "edc.nats.tasks.publisher.transfer.subject-prefix", transferSubjectPrefix, UPSTREAM_TRANSFER_SUBJECT_PREFIX),
+                maxPendingAcks, windowTimeout, ackTimeout, maxRetries, retryDelay);
+    }
+
+    private static String fallback(Config config, String key, String value, String... upstreamKeys) {
+        if (config.hasKey(key)) {
+            return value;
+        }
+        for (var upstreamKey : upstreamKeys) {
+            if (config.hasKey(upstreamKey)) {
+                return config.getString(upstreamKey);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.publisher.nats;
+
+import io.nats.client.Connection;
+import io.nats.client.JetStream;
+import io.nats.client.Nats;
+import io.nats.client.Options;
+import org.eclipse.edc.controlplane.tasks.TaskObservable;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.io.IOException;
+
+import static org.eclipse.edc.virtual.controlplane.tasks.publisher.nats.NatsTaskPublisherExtension.NAME;
+
+@Extension(NAME)
+public class NatsTaskPublisherExtension implements ServiceExtension {
+
+    public static final String NAME = "NATS Async Task Publisher";
+
+    @Inject
+    private TaskObservable taskObservable;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private Monitor monitor;
+
+    @Configuration
+    private NatsTaskPublisherConfig config;
+
+    private Connection connection;
+    private NatsAsyncTaskPublisher publisher;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        config = config.withUpstreamFallback(context.getConfig());
+        taskObservable.registerListener(natsTaskPublisher());
+    }
+
+    @Provider
+    public NatsAsyncTaskPublisher natsTaskPublisher() {
+        if (publisher == null) {
+            var subjects = new NatsTaskSubjects(config.negotiationSubjectPrefix(), config.transferSubjectPrefix());
+            publisher = new NatsAsyncTaskPublisher(connect(), typeManager.getMapper(), subjects, config,
+                    monitor.withPrefix("NatsAsyncTaskPublisher"));
+        }
+        return publisher;
+    }
+
+    @Override
+    public void shutdown() {
+        if (publisher != null) {
+            publisher.stop();
+        }
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private JetStream connect() {
+        try {
+            connection = Nats.connect(Options.builder().server(config.url()).build());
+            return connection.jetStream();
+        } catch (IOException e) {
+            throw new EdcException("Failed to connect to NATS at " + config.url(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException("Interrupted while connecting to NATS at " + config.url(), e);
+        }
+    }
+}
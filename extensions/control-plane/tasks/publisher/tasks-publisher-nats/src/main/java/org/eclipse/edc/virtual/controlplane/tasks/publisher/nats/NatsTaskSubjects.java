@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.publisher.nats;
+
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.ContractNegotiationTaskPayload;
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Maps tasks to NATS subjects following the {@code {domain}.{processType}.{taskName}} convention.
+ */
+public record NatsTaskSubjects(String negotiationPrefix, String transferPrefix) {
+
+    /**
+     * Returns the subject for the given task, or null if the task is not routed through NATS.
+     */
+    @Nullable
+    public String subjectFor(Task task) {
+        if (task.getPayload() instanceof ContractNegotiationTaskPayload payload) {
+            return format(negotiationPrefix, payload);
+        } else if (task.getPayload() instanceof TransferProcessTaskPayload payload) {
+            return format(transferPrefix, payload);
+        }
+        return null;
+    }
+
+    private String format(String prefix, ProcessTaskPayload payload) {
+        return "%s.%s.%s".formatted(prefix, payload.getProcessType().toLowerCase(Locale.ROOT), payload.name());
+    }
+}
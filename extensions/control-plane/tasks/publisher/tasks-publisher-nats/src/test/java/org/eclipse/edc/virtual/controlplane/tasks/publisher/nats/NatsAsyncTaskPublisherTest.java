@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.publisher.nats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nats.client.JetStream;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.PublishAck;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.RequestNegotiation;
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.PrepareTransfer;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NatsAsyncTaskPublisherTest {
+
+    private final JetStream jetStream = mock();
+    private final ObjectMapper mapper = mock();
+    private final Monitor monitor = mock();
+    private final NatsTaskSubjects subjects = new NatsTaskSubjects("negotiations", "transfers");
+    private NatsAsyncTaskPublisher publisher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(mapper.writeValueAsBytes(any())).thenReturn(new byte[]{ 1 });
+        var config = new NatsTaskPublisherConfig("nats://localhost:4222", "negotiations", "transfers", 2, 10, 1000, 2, 100);
+        publisher = new NatsAsyncTaskPublisher(jetStream, mapper, subjects, config, monitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+    }
+
+    @Test
+    void created_shouldPublishToTaskSubject() {
+        var payload = RequestNegotiation.Builder.newInstance()
+                .processId("negotiation-123")
+                .processState(100)
+                .processType("CONSUMER")
+                .build();
+        var task = Task.Builder.newInstance().at(System.currentTimeMillis()).payload(payload).build();
+        when(jetStream.publishAsync(anyString(), any(byte[].class), any(PublishOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(PublishAck.class)));
+
+        publisher.created(task);
+
+        verify(jetStream).publishAsync(eq("negotiations.consumer." + payload.name()), any(byte[].class), any(PublishOptions.class));
+    }
+
+    @Test
+    void publish_shouldRetry_whenAckFails() {
+        var task = transferTask();
+        var ack = mock(PublishAck.class);
+        when(jetStream.publishAsync(anyString(), any(byte[].class), any(PublishOptions.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("no ack")))
+                .thenReturn(CompletableFuture.completedFuture(ack));
+
+        var result = publisher.publish(task);
+
+        assertThat(result).succeedsWithin(2, TimeUnit.SECONDS).isSameAs(ack);
+        verify(jetStream, times(2)).publishAsync(anyString(), any(byte[].class), any(PublishOptions.class));
+    }
+
+    @Test
+    void publish_shouldFail_whenRetriesExhausted() {
+        var task = transferTask();
+        when(jetStream.publishAsync(anyString(), any(byte[].class), any(PublishOptions.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("no ack")));
+
+        var result = publisher.publish(task);
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(result).isCompletedExceptionally());
+        verify(jetStream, times(3)).publishAsync(anyString(), any(byte[].class), any(PublishOptions.class));
+        verify(monitor).severe(anyString(), any(Throwable.class));
+    }
+
+    @Test
+    void publish_shouldBoundPendingAcks() {
+        var first = new CompletableFuture<PublishAck>();
+        when(jetStream.publishAsync(anyString(), any(byte[].class), any(PublishOptions.class)))
+                .thenReturn(first)
+                .thenReturn(new CompletableFuture<>())
+                .thenReturn(CompletableFuture.completedFuture(mock(PublishAck.class)));
+
+        publisher.publish(transferTask());
+        publisher.publish(transferTask());
+        var third = publisher.publish(transferTask());
+
+        assertThat(publisher.pendingAcks()).isEqualTo(2);
+        assertThat(third).isNotDone();
+        verify(jetStream, times(2)).publishAsync(anyString(), any(byte[].class), any(PublishOptions.class));
+
+        first.complete(mock(PublishAck.class));
+
+        assertThat(third).succeedsWithin(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void publish_shouldRetry_whenQueuedLongerThanWindowTimeout() {
+        when(jetStream.publishAsync(anyString(), any(byte[].class), any(PublishOptions.class)))
+                .thenReturn(new CompletableFuture<>());
+
+        publisher.publish(transferTask());
+        publisher.publish(transferTask());
+        var third = publisher.publish(transferTask());
+
+        assertThat(third).isNotDone();
+        await().atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(monitor, atLeastOnce()).warning(contains("pending-ack window is full")));
+    }
+
+    @Test
+    void publish_shouldSkipTasksNotRoutedThroughNats() {
+        var task = Task.Builder.newInstance().at(System.currentTimeMillis()).payload(new UnknownPayload()).build();
+
+        var result = publisher.publish(task);
+
+        assertThat(result).isCompletedWithValue(null);
+        verifyNoInteractions(jetStream);
+    }
+
+    private Task transferTask() {
+        var payload = PrepareTransfer.Builder.newInstance()
+                .processId("transfer-123")
+                .processState(100)
+                .processType("PROVIDER")
+                .build();
+        return Task.Builder.newInstance().at(System.currentTimeMillis()).payload(payload).build();
+    }
+
+    private static class UnknownPayload extends ProcessTaskPayload {
+
+        UnknownPayload() {
+            this.processId = "process-1";
+            this.processState = 100;
+            this.processType = "CONSUMER";
+        }
+
+        @Override
+        public String name() {
+            return "unknown.payload";
+        }
+
+        @Override
+        public String group() {
+            return "unknown";
+        }
+    }
+}
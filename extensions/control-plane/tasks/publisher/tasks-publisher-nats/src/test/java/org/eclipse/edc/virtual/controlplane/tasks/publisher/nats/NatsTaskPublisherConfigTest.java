@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.publisher.nats;
+
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NatsTaskPublisherConfigTest {
+
+    private final NatsTaskPublisherConfig defaults = new NatsTaskPublisherConfig("nats://localhost:4222", "negotiations", "transfers", 256, 50, 5000, 3, 200);
+
+    @Test
+    void withUpstreamFallback_shouldUseUpstreamKeys_whenOwnKeysAreNotSet() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "edc.nats.cn.publisher.url", "nats://upstream:4222",
+                "edc.nats.cn.publisher.subject-prefix", "cn",
+                "edc.nats.tp.publisher.subject-prefix", "tp"));
+
+        var resolved = defaults.withUpstreamFallback(config);
+
+        assertThat(resolved.url()).isEqualTo("nats://upstream:4222");
+        assertThat(resolved.negotiationSubjectPrefix()).isEqualTo("cn");
+        assertThat(resolved.transferSubjectPrefix()).isEqualTo("tp");
+        assertThat(resolved.maxPendingAcks()).isEqualTo(256);
+    }
+
+    @Test
+    void withUpstreamFallback_shouldPreferOwnKeys() {
+        var own = new NatsTaskPublisherConfig("nats://own:4222", "negotiations", "transfers", 256, 50, 5000, 3, 200);
+        var config = ConfigFactory.fromMap(Map.of(
+                "edc.nats.tasks.publisher.url", "nats://own:4222",
+                "edc.nats.cn.publisher.url", "nats://upstream:4222"));
+
+        assertThat(own.withUpstreamFallback(config).url()).isEqualTo("nats://own:4222");
+    }
+
+    @Test
+    void withUpstreamFallback_shouldKeepDefaults_whenNothingIsSet() {
+        assertThat(defaults.withUpstreamFallback(ConfigFactory.empty())).isEqualTo(defaults);
+    }
+}
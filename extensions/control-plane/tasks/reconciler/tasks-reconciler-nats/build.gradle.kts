@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(libs.edc.spi.core)
+    api(libs.edc.spi.transaction)
+    api(libs.edc.spi.tasks)
+    implementation(project(":extensions:control-plane:tasks:publisher:tasks-publisher-nats"))
+    implementation(libs.nats)
+    testImplementation(libs.awaitility)
+    testImplementation(libs.edc.junit)
+    testImplementation(libs.edc.spi.contract)
+}
+
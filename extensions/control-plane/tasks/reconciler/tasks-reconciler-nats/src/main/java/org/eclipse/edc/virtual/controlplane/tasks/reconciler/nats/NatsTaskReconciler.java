@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.reconciler.nats;
+
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.tasks.publisher.nats.NatsAsyncTaskPublisher;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Heals tasks missed by the NATS path.
+ * <p>
+ * Subscribers remove a task from the {@link TaskStore} once it has been handled, so a task that is still in the
+ * store long after it was due has never been acked, most likely because its publication was lost. The reconciler
+ * periodically claims such tasks in batches, reschedules them, so they are not picked up again before the threshold
+ * elapses once more, and republishes them. Tasks that keep getting lost are dropped after a bounded number of
+ * attempts.
+ */
+public class NatsTaskReconciler {
+
+    private final NatsTaskReconcilerConfig config;
+    private final NatsAsyncTaskPublisher publisher;
+    private final TaskStore taskStore;
+    private final TransactionContext transactionContext;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    public NatsTaskReconciler(NatsTaskReconcilerConfig config, NatsAsyncTaskPublisher publisher, TaskStore taskStore,
+                              TransactionContext transactionContext, Monitor monitor, Clock clock) {
+        this.config = config;
+        this.publisher = publisher;
+        this.taskStore = taskStore;
+        this.transactionContext = transactionContext;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("NatsTaskReconciler");
+            return thread;
+        });
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::sweep, config.period(), config.period(), SECONDS);
+    }
+
+    public void stop() {
+        stopped.set(true);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Republishes stale tasks batch by batch until a batch comes back incomplete.
+     */
+    void sweep() {
+        try {
+            var total = 0;
+            List<Task> claimed;
+            do {
+                claimed = claimBatch();
+                total += republish(claimed);
+            } while (claimed.size() == config.batchSize() && !stopped.get());
+
+            if (total > 0) {
+                monitor.warning("Republished %d tasks missing from NATS".formatted(total));
+            }
+        } catch (Exception e) {
+            monitor.severe("NatsTaskReconciler failed to reconcile tasks", e);
+        }
+    }
+
+    /**
+     * Claims a batch of stale tasks and reschedules them in a single short transaction, so no row stays locked while
+     * waiting for NATS. Tasks that have already been republished {@code max-retries} times are dropped.
+     *
+     * @return the rescheduled tasks, to be republished
+     */
+    private List<Task> claimBatch() {
+        return transactionContext.execute(() -> {
+            var cutoff = clock.millis() - SECONDS.toMillis(config.threshold());
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(criterion("at", "<", cutoff))
+                    .sortField("at")
+                    .sortOrder(SortOrder.ASC)
+                    .limit(config.batchSize())
+                    .build();
+
+            var rescheduled = new ArrayList<Task>();
+            for (var task : taskStore.fetchForUpdate(query)) {
+                if (task.getRetryCount() >= config.maxRetries()) {
+                    monitor.severe("Task %s was republished %d times without being handled. Dropping it".formatted(task.getId(), task.getRetryCount()));
+                    taskStore.delete(task.getId());
+                } else {
+                    var next = task.toBuilder().at(clock.millis()).retryCount(task.getRetryCount() + 1).build();
+                    taskStore.update(next);
+                    rescheduled.add(next);
+                }
+            }
+            return rescheduled;
+        });
+    }
+
+    /**
+     * Publishes the tasks and waits at most {@code ack-timeout} seconds for their acks. A task that is not acked stays
+     * rescheduled in the store and is picked up again once the threshold elapses.
+     *
+     * @return the number of acked tasks
+     */
+    private int republish(List<Task> tasks) {
+        var acks = tasks.stream()
+                .map(task -> publisher.publish(task)
+                        .handle((ack, throwable) -> throwable == null)
+                        .completeOnTimeout(false, config.ackTimeout(), SECONDS))
+                .toList();
+        return (int) acks.stream().filter(CompletableFuture::join).count();
+    }
+}
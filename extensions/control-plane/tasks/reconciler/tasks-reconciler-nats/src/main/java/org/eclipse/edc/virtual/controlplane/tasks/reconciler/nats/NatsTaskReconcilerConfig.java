@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.reconciler.nats;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+
+@Settings
+public record NatsTaskReconcilerConfig(
+        @Setting(key = "edc.nats.tasks.reconciler.enabled", description = "Whether tasks left in the task store are periodically republished to NATS", defaultValue = "true")
+        boolean enabled,
+        @Setting(key = "edc.nats.tasks.reconciler.period", description = "Interval in seconds between two reconciliation sweeps", defaultValue = "60")
+        long period,
+        @Setting(key = "edc.nats.tasks.reconciler.threshold", description = "Age in seconds after which a task still in the store is considered lost and republished. " +
+                "Should exceed the worst-case time a task spends on NATS, redeliveries included", defaultValue = "300")
+        long threshold,
+        @Setting(key = "edc.nats.tasks.reconciler.batch-size", description = "Max number of tasks republished per batch", defaultValue = "100")
+        int batchSize,
+        @Setting(key = "edc.nats.tasks.reconciler.max-retries", description = "Max number of times a task is republished before it is dropped from the task store", defaultValue = "10")
+        int maxRetries,
+        @Setting(key = "edc.nats.tasks.reconciler.ack-timeout", description = "Time in seconds to wait for NATS to ack a republished task", defaultValue = "10")
+        long ackTimeout
+) {
+
+}
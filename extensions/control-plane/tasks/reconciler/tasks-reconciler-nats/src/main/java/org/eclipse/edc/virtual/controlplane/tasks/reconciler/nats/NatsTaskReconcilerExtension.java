@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.reconciler.nats;
+
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.virtual.controlplane.tasks.publisher.nats.NatsAsyncTaskPublisher;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.virtual.controlplane.tasks.reconciler.nats.NatsTaskReconcilerExtension.NAME;
+
+@Extension(NAME)
+public class NatsTaskReconcilerExtension implements ServiceExtension {
+
+    public static final String NAME = "NATS Task Reconciler";
+
+    @Inject
+    private NatsAsyncTaskPublisher publisher;
+    @Inject
+    private TaskStore taskStore;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private Monitor monitor;
+    @Inject
+    private Clock clock;
+
+    @Configuration
+    private NatsTaskReconcilerConfig config;
+
+    private NatsTaskReconciler reconciler;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (config.enabled()) {
+            reconciler = new NatsTaskReconciler(config, publisher, taskStore, transactionContext,
+                    monitor.withPrefix("NatsTaskReconciler"), clock);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (reconciler != null) {
+            reconciler.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (reconciler != null) {
+            reconciler.stop();
+        }
+    }
+}
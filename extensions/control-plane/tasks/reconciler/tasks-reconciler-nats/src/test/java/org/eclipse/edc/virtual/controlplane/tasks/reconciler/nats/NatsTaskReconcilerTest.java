@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.reconciler.nats;
+
+import io.nats.client.api.PublishAck;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.RequestNegotiation;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.virtual.controlplane.tasks.publisher.nats.NatsAsyncTaskPublisher;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NatsTaskReconcilerTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private final NatsAsyncTaskPublisher publisher = mock();
+    private final TaskStore taskStore = mock();
+    private final Monitor monitor = mock();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+    private final NatsTaskReconciler reconciler = new NatsTaskReconciler(new NatsTaskReconcilerConfig(true, 60, 300, 2, 3, 1),
+            publisher, taskStore, new NoopTransactionContext(), monitor, clock);
+
+    @Test
+    void sweep_shouldClaimTasksOlderThanThreshold() {
+        when(taskStore.fetchForUpdate(any())).thenReturn(List.of());
+
+        reconciler.sweep();
+
+        var captor = ArgumentCaptor.forClass(QuerySpec.class);
+        verify(taskStore).fetchForUpdate(captor.capture());
+        var query = captor.getValue();
+        assertThat(query.getLimit()).isEqualTo(2);
+        assertThat(query.getFilterExpression()).singleElement().satisfies(criterion -> {
+            assertThat(criterion.getOperandLeft()).isEqualTo("at");
+            assertThat(criterion.getOperator()).isEqualTo("<");
+            assertThat(criterion.getOperandRight()).isEqualTo(NOW - 300_000);
+        });
+    }
+
+    @Test
+    void sweep_shouldRescheduleClaimedTasks_beforePublishing() {
+        var acked = task("negotiation-1");
+        var lost = task("negotiation-2");
+        when(taskStore.fetchForUpdate(any())).thenReturn(List.of(acked, lost)).thenReturn(List.of());
+        when(publisher.publish(any())).thenAnswer(invocation -> invocation.getArgument(0, Task.class).getId().equals(acked.getId()) ?
+                CompletableFuture.completedFuture(mock(PublishAck.class)) :
+                CompletableFuture.failedFuture(new RuntimeException("no ack")));
+
+        reconciler.sweep();
+
+        var inOrder = inOrder(taskStore, publisher);
+        inOrder.verify(taskStore, times(2)).update(argThat(task -> task.getAt() == NOW && task.getRetryCount() == 1));
+        inOrder.verify(publisher, times(2)).publish(any());
+        verify(monitor).warning(contains("Republished 1 tasks"));
+    }
+
+    @Test
+    void sweep_shouldDropTask_whenMaxRetriesReached() {
+        var exhausted = task("negotiation-1").toBuilder().retryCount(3).build();
+        when(taskStore.fetchForUpdate(any())).thenReturn(List.of(exhausted));
+
+        reconciler.sweep();
+
+        verify(taskStore).delete(exhausted.getId());
+        verify(taskStore, never()).update(any());
+        verify(publisher, never()).publish(any());
+    }
+
+    @Test
+    void sweep_shouldNotWaitForeverForAcks() {
+        when(taskStore.fetchForUpdate(any())).thenReturn(List.of(task("negotiation-1")));
+        when(publisher.publish(any())).thenReturn(new CompletableFuture<>());
+
+        assertTimeout(Duration.ofSeconds(5), reconciler::sweep);
+
+        verify(monitor, never()).warning(any());
+    }
+
+    @Test
+    void sweep_shouldContinue_whenBatchIsFull() {
+        when(taskStore.fetchForUpdate(any()))
+                .thenReturn(List.of(task("negotiation-1"), task("negotiation-2")))
+                .thenReturn(List.of(task("negotiation-3")));
+        when(publisher.publish(any())).thenReturn(CompletableFuture.completedFuture(mock(PublishAck.class)));
+
+        reconciler.sweep();
+
+        verify(taskStore, times(2)).fetchForUpdate(any());
+        verify(taskStore, times(3)).update(any());
+    }
+
+    private Task task(String processId) {
+        var payload = RequestNegotiation.Builder.newInstance()
+                .processId(processId)
+                .processState(100)
+                .processType("CONSUMER")
+                .build();
+        return Task.Builder.newInstance().at(0).payload(payload).build();
+    }
+}
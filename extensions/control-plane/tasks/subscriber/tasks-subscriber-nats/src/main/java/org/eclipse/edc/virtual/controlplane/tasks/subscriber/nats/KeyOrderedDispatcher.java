@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Runs work on a fixed set of single-threaded lanes. Work sharing the same key always lands on the same lane, so it
+ * is executed in submission order, while work with different keys runs in parallel.
+ */
+public class KeyOrderedDispatcher {
+
+    private final List<ExecutorService> lanes;
+
+    public KeyOrderedDispatcher(int lanes, String name) {
+        this.lanes = IntStream.range(0, lanes)
+                .mapToObj(i -> Executors.newSingleThreadExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName(name + "-" + i);
+                    return thread;
+                }))
+                .toList();
+    }
+
+    /**
+     * Schedules the work on the lane owning the key.
+     *
+     * @return a future completed when the work has run
+     */
+    public CompletableFuture<Void> dispatch(String key, Runnable work) {
+        var lane = lanes.get(Math.floorMod(Objects.hashCode(key), lanes.size()));
+        return CompletableFuture.runAsync(work, lane);
+    }
+
+    public void stop(long timeoutSeconds) {
+        lanes.forEach(ExecutorService::shutdown);
+        try {
+            for (var lane : lanes) {
+                if (!lane.awaitTermination(timeoutSeconds, SECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            lanes.forEach(ExecutorService::shutdownNow);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import java.time.Duration;
+
+/**
+ * Exponential backoff for redelivering task messages, driven by the JetStream delivery count.
+ *
+ * @param initialDelay  delay in milliseconds after the first delivery failed
+ * @param maxDelay      upper bound of the delay in milliseconds
+ * @param maxDeliveries deliveries after which a message is no longer redelivered
+ */
+public record NatsRedeliveryPolicy(long initialDelay, long maxDelay, int maxDeliveries) {
+
+    /**
+     * Delay before the next delivery of a message that has been delivered {@code deliveredCount} times.
+     */
+    public Duration delayFor(long deliveredCount) {
+        var exponent = Math.min(Math.max(deliveredCount - 1, 0), 30);
+        var delay = initialDelay << exponent;
+        return Duration.ofMillis(delay < 0 ? maxDelay : Math.min(delay, maxDelay));
+    }
+
+    /**
+     * Whether a message delivered {@code deliveredCount} times has used up all its deliveries.
+     */
+    public boolean isExhausted(long deliveredCount) {
+        return deliveredCount >= maxDeliveries;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nats.client.JetStream;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamSubscription;
+import io.nats.client.Message;
+import io.nats.client.PullSubscribeOptions;
+import io.nats.client.impl.Headers;
+import org.eclipse.edc.controlplane.tasks.ProcessTaskPayload;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Base class for the subscribers pulling tasks from a JetStream durable consumer.
+ * <p>
+ * Transient failures are redelivered with {@code nakWithDelay} following the {@link NatsRedeliveryPolicy}. Messages
+ * that exhaust their deliveries, or that cannot be deserialized, are republished to the dead-letter subject
+ * ({@code {prefix}.{original subject}}) and terminated.
+ * <p>
+ * With more than one worker configured, a fetched batch is spread over a {@link KeyOrderedDispatcher} keyed by process
+ * id: tasks of the same process keep their order, tasks of different processes run in parallel and are acked
+ * independently. The next batch is fetched once the current one has been processed.
+ */
+public abstract class NatsTaskSubscriber {
+
+    public static final String FAILURE_HEADER = "Edc-Task-Failure";
+    public static final String DELIVERIES_HEADER = "Edc-Task-Deliveries";
+
+    protected final Monitor monitor;
+    private final String name;
+    private final String stream;
+    private final String subject;
+    private final JetStream jetStream;
+    private final NatsTaskSubscriberConfig config;
+    private final NatsRedeliveryPolicy redeliveryPolicy;
+    private final ObjectMapper mapper;
+    private final TaskStore taskStore;
+    private final TransactionContext transactionContext;
+    private final ExecutorService executor;
+    private final KeyOrderedDispatcher dispatcher;
+    private final AtomicBoolean active = new AtomicBoolean();
+
+    protected NatsTaskSubscriber(String name, String stream, String subject, JetStream jetStream, NatsTaskSubscriberConfig config,
+                                 ObjectMapper mapper, TaskStore taskStore, TransactionContext transactionContext, Monitor monitor) {
+        this.name = name;
+        this.stream = stream;
+        this.subject = subject;
+        this.jetStream = jetStream;
+        this.config = config;
+        this.redeliveryPolicy = config.redeliveryPolicy();
+        this.mapper = mapper;
+        this.taskStore = taskStore;
+        this.transactionContext = transactionContext;
+        this.monitor = monitor;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("NatsTaskSubscriber-" + name);
+            return thread;
+        });
+        this.dispatcher = config.workers() > 1 ? new KeyOrderedDispatcher(config.workers(), "NatsTaskSubscriber-" + name + "-worker") : null;
+    }
+
+    public void start() {
+        JetStreamSubscription subscription;
+        try {
+            subscription = jetStream.subscribe(subject, PullSubscribeOptions.builder().stream(stream).durable(name).build());
+        } catch (IOException | JetStreamApiException e) {
+            throw new EdcException("Failed to subscribe %s to %s".formatted(name, subject), e);
+        }
+        active.set(true);
+        executor.submit(() -> run(subscription));
+    }
+
+    public void stop() {
+        active.set(false);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (dispatcher != null) {
+            dispatcher.stop(10);
+        }
+    }
+
+    /**
+     * Executes the task carried by a message.
+     */
+    protected abstract StatusResult<Void> handle(Task task);
+
+    void processBatch(List<Message> messages) {
+        if (dispatcher == null) {
+            messages.forEach(this::process);
+            return;
+        }
+        var completions = new ArrayList<CompletableFuture<Void>>(messages.size());
+        for (var message : messages) {
+            var task = deserialize(message);
+            if (task != null) {
+                completions.add(dispatcher.dispatch(orderingKey(task), () -> process(message, task)));
+            }
+        }
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).join();
+    }
+
+    void process(Message message) {
+        var task = deserialize(message);
+        if (task != null) {
+            process(message, task);
+        }
+    }
+
+    private void process(Message message, Task task) {
+        try {
+            var result = transactionContext.execute(() -> execute(task));
+            if (result == null) {
+                skipOrRetry(message, task);
+            } else if (result.succeeded()) {
+                message.ack();
+            } else if (result.fatalError()) {
+                monitor.severe("Fatal error processing task " + task.getId() + ": " + result.getFailureDetail());
+                message.term();
+            } else {
+                retryLater(message, task.getId(), result.getFailureDetail());
+            }
+        } catch (Exception e) {
+            retryLater(message, task.getId(), e.getMessage());
+        }
+    }
+
+    @Nullable
+    private Task deserialize(Message message) {
+        try {
+            return mapper.readValue(message.getData(), Task.class);
+        } catch (IOException e) {
+            deadLetter(message, null, "Cannot deserialize task: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private String orderingKey(Task task) {
+        return task.getPayload() instanceof ProcessTaskPayload payload ? payload.getProcessId() : task.getId();
+    }
+
+    /**
+     * Runs the task if it is still in the store, removing it once it has been handled for good.
+     *
+     * @return the execution result, or null if the task is not in the store
+     */
+    @Nullable
+    private StatusResult<Void> execute(Task task) {
+        if (taskStore.findById(task.getId()) == null) {
+            return null;
+        }
+        var result = handle(task);
+        if (result.succeeded() || result.fatalError()) {
+            taskStore.delete(task.getId());
+        }
+        return result;
+    }
+
+    /**
+     * A task not in the store is either not committed yet by its publisher, or its transaction rolled back. Give the
+     * commit a chance to land before dropping the message.
+     */
+    private void skipOrRetry(Message message, Task task) {
+        var deliveredCount = deliveredCount(message);
+        if (redeliveryPolicy.isExhausted(deliveredCount)) {
+            monitor.debug(() -> "Task %s not found in the store after %d deliveries. Dropping message".formatted(task.getId(), deliveredCount));
+            message.ack();
+        } else {
+            message.nakWithDelay(redeliveryPolicy.delayFor(deliveredCount));
+        }
+    }
+
+    private void retryLater(Message message, String taskId, String reason) {
+        var deliveredCount = deliveredCount(message);
+        if (redeliveryPolicy.isExhausted(deliveredCount)) {
+            deadLetter(message, taskId, reason);
+            return;
+        }
+        var delay = redeliveryPolicy.delayFor(deliveredCount);
+        monitor.warning("Transient error processing task %s: %s. Redelivering in %d ms".formatted(taskId, reason, delay.toMillis()));
+        message.nakWithDelay(delay);
+    }
+
+    /**
+     * Moves the message to the dead-letter subject and drops its task from the store, so that the reconciler does not
+     * publish it again.
+     */
+    private void deadLetter(Message message, @Nullable String taskId, String reason) {
+        var deliveredCount = deliveredCount(message);
+        var deadLetterSubject = config.deadLetterSubjectPrefix() + "." + message.getSubject();
+        var headers = new Headers()
+                .put(FAILURE_HEADER, String.valueOf(reason))
+                .put(DELIVERIES_HEADER, String.valueOf(deliveredCount));
+        try {
+            jetStream.publish(deadLetterSubject, headers, message.getData());
+            monitor.severe("Message on %s moved to %s after %d deliveries. Last error: %s"
+                    .formatted(message.getSubject(), deadLetterSubject, deliveredCount, reason));
+            if (taskId != null) {
+                removeTask(taskId);
+            }
+            message.term();
+        } catch (IOException | JetStreamApiException e) {
+            monitor.severe("Failed to dead-letter message on " + message.getSubject(), e);
+            message.nakWithDelay(Duration.ofMillis(redeliveryPolicy.maxDelay()));
+        }
+    }
+
+    private void removeTask(String taskId) {
+        try {
+            transactionContext.execute(() -> taskStore.delete(taskId));
+        } catch (Exception e) {
+            monitor.severe("Failed to remove dead-lettered task " + taskId, e);
+        }
+    }
+
+    private long deliveredCount(Message message) {
+        return message.isJetStream() ? message.metaData().deliveredCount() : 1;
+    }
+
+    private void run(JetStreamSubscription subscription) {
+        while (active.get()) {
+            try {
+                processBatch(subscription.fetch(config.batchSize(), Duration.ofMillis(config.maxWait())));
+            } catch (Exception e) {
+                monitor.severe("NATS subscriber %s failed to fetch messages".formatted(name), e);
+            }
+        }
+    }
+}
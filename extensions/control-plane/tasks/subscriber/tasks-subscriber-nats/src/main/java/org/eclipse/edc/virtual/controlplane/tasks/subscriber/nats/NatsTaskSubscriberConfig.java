@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
+import org.eclipse.edc.spi.system.configuration.Config;
+
+/**
+ * Settings of the NATS task subscribers. The connection and durable consumer settings fall back to the ones of the
+ * upstream NATS subscribers when they are not set, so that the subscribers can replace them without reconfiguring the
+ * runtime.
+ */
+@Settings
+public record NatsTaskSubscriberConfig(
+        @Setting(key = "edc.nats.tasks.subscriber.url", description = "URL of the NATS server tasks are consumed from", defaultValue = "nats://localhost:4222")
+        String url,
+        @Setting(key = "edc.nats.tasks.subscriber.batch-size", description = "Max number of messages fetched per pull", defaultValue = "100")
+        int batchSize,
+        @Setting(key = "edc.nats.tasks.subscriber.max-wait", description = "Max time in milliseconds a pull waits for messages", defaultValue = "100")
+        long maxWait,
+        @Setting(key = "edc.nats.tasks.subscriber.workers", description = "Number of workers processing a fetched batch in parallel, preserving the order of tasks of the same process. 1 processes the batch sequentially", defaultValue = "1")
+        int workers,
+        @Setting(key = "edc.nats.tasks.subscriber.negotiation.name", description = "Durable consumer name of the contract negotiation subscriber", defaultValue = "cn-subscriber")
+        String negotiationName,
+        @Setting(key = "edc.nats.tasks.subscriber.negotiation.stream", description = "Stream holding contract negotiation tasks", defaultValue = "cn-stream")
+        String negotiationStream,
+        @Setting(key = "edc.nats.tasks.subscriber.negotiation.subject", description = "Subject filter of the contract negotiation subscriber", defaultValue = "negotiations.>")
+        String negotiationSubject,
+        @Setting(key = "edc.nats.tasks.subscriber.transfer.name", description = "Durable consumer name of the transfer process subscriber", defaultValue = "tp-subscriber")
+        String transferName,
+        @Setting(key = "edc.nats.tasks.subscriber.transfer.stream", description = "Stream holding transfer process tasks", defaultValue = "tp-stream")
+        String transferStream,
+        @Setting(key = "edc.nats.tasks.subscriber.transfer.subject", description = "Subject filter of the transfer process subscriber", defaultValue = "transfers.>")
+        String transferSubject,
+        @Setting(key = "edc.nats.tasks.subscriber.redelivery.initial-delay", description = "Redelivery delay in milliseconds after the first transient failure", defaultValue = "1000")
+        long redeliveryInitialDelay,
+        @Setting(key = "edc.nats.tasks.subscriber.redelivery.max-delay", description = "Upper bound in milliseconds of the redelivery delay", defaultValue = "60000")
+        long redeliveryMaxDelay,
+        @Setting(key = "edc.nats.tasks.subscriber.redelivery.max-deliveries", description = "Max deliveries of a message before it is routed to the dead-letter stream", defaultValue = "10")
+        int maxDeliveries,
+        @Setting(key = "edc.nats.tasks.subscriber.dead-letter.stream", description = "Stream holding the dead-lettered task messages", defaultValue = "tasks-dlq")
+        String deadLetterStream,
+        @Setting(key = "edc.nats.tasks.subscriber.dead-letter.subject-prefix", description = "Prefix prepended to the original subject of dead-lettered messages", defaultValue = "dlq")
+        String deadLetterSubjectPrefix,
+        @Setting(key = "edc.nats.tasks.subscriber.dead-letter.auto-create", description = "Create the dead-letter stream on startup if it does not exist", defaultValue = "true")
+        boolean autoCreateDeadLetterStream
+) {
+
+    private static final String UPSTREAM_NEGOTIATION = "edc.nats.cn.subscriber.";
+    private static final String UPSTREAM_TRANSFER = "edc.nats.tp.subscriber.";
+
+    /**
+     * Returns the settings with the values of the upstream subscriber keys applied where the own keys are not set.
+     *
+     * @param config the runtime configuration
+     */
+    public NatsTaskSubscriberConfig withUpstreamFallback(Config config) {
+        return new NatsTaskSubscriberConfig(
+                fallback(config, "edc.nats.tasks.subscriber.url", url, UPSTREAM_NEGOTIATION + "url", UPSTREAM_TRANSFER + "url"),
+                batchSize, maxWait, workers,
+                fallback(config, "edc.nats.tasks.subscriber.negotiation.name", negotiationName, UPSTREAM_NEGOTIATION + "name"),
+                fallback(config, "edc.nats.tasks.subscriber.negotiation.stream", negotiationStream, UPSTREAM_NEGOTIATION + "stream"),
+                fallback(config, "edc.nats.tasks.subscriber.negotiation.subject", negotiationSubject, UPSTREAM_NEGOTIATION + "subject"),
+                fallback(config, "edc.nats.tasks.subscriber.transfer.name", transferName, UPSTREAM_TRANSFER + "name"),
+                fallback(config, "edc.nats.tasks.subscriber.transfer.stream", transferStream, UPSTREAM_TRANSFER + "stream"),
+                fallback(config, "edc.nats.tasks.subscriber.transfer.subject", transferSubject, UPSTREAM_TRANSFER + "subject"),
+                redeliveryInitialDelay, redeliveryMaxDelay, maxDeliveries,
+                deadLetterStream, deadLetterSubjectPrefix, autoCreateDeadLetterStream);
+    }
+
+    public NatsRedeliveryPolicy redeliveryPolicy() {
+        return new NatsRedeliveryPolicy(redeliveryInitialDelay, redeliveryMaxDelay, maxDeliveries);
+    }
+
+    private static String fallback(Config config, String key, String value, String... upstreamKeys) {
+        if (config.hasKey(key)) {
+            return value;
+        }
+        for (var upstreamKey : upstreamKeys) {
+            if (config.hasKey(upstreamKey)) {
+                return config.getString(upstreamKey);
+            }
+        }
+        return value;
+    }
+}
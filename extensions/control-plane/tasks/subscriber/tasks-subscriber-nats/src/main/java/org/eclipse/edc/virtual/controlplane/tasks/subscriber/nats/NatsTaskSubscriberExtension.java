@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import io.nats.client.Connection;
+import io.nats.client.JetStream;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.Nats;
+import io.nats.client.Options;
+import io.nats.client.api.StreamConfiguration;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.ContractNegotiationTaskExecutor;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.controlplane.transfer.spi.TransferProcessTaskExecutor;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats.NatsTaskSubscriberExtension.NAME;
+
+@Extension(NAME)
+public class NatsTaskSubscriberExtension implements ServiceExtension {
+
+    public static final String NAME = "NATS Task Subscribers";
+
+    @Inject
+    private TaskStore taskStore;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private ContractNegotiationTaskExecutor contractNegotiationTaskExecutor;
+    @Inject
+    private TransferProcessTaskExecutor transferProcessTaskExecutor;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private Monitor monitor;
+
+    @Configuration
+    private NatsTaskSubscriberConfig config;
+
+    private Connection connection;
+    private List<NatsTaskSubscriber> subscribers = List.of();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        config = config.withUpstreamFallback(context.getConfig());
+        var jetStream = connect();
+        var mapper = typeManager.getMapper();
+        subscribers = List.of(
+                new NatsContractNegotiationTaskSubscriber(jetStream, config, mapper, taskStore, transactionContext,
+                        monitor.withPrefix("NatsContractNegotiationTaskSubscriber"), contractNegotiationTaskExecutor),
+                new NatsTransferProcessTaskSubscriber(jetStream, config, mapper, taskStore, transactionContext,
+                        monitor.withPrefix("NatsTransferProcessTaskSubscriber"), transferProcessTaskExecutor)
+        );
+    }
+
+    @Override
+    public void start() {
+        if (config.autoCreateDeadLetterStream()) {
+            createDeadLetterStream();
+        }
+        subscribers.forEach(NatsTaskSubscriber::start);
+    }
+
+    @Override
+    public void shutdown() {
+        subscribers.forEach(NatsTaskSubscriber::stop);
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void createDeadLetterStream() {
+        try {
+            var management = connection.jetStreamManagement();
+            if (!management.getStreamNames().contains(config.deadLetterStream())) {
+                management.addStream(StreamConfiguration.builder()
+                        .name(config.deadLetterStream())
+                        .subjects(config.deadLetterSubjectPrefix() + ".>")
+                        .build());
+            }
+        } catch (IOException | JetStreamApiException e) {
+            throw new EdcException("Failed to create dead-letter stream " + config.deadLetterStream(), e);
+        }
+    }
+
+    private JetStream connect() {
+        try {
+            connection = Nats.connect(Options.builder().server(config.url()).build());
+            return connection.jetStream();
+        } catch (IOException e) {
+            throw new EdcException("Failed to connect to NATS at " + config.url(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException("Interrupted while connecting to NATS at " + config.url(), e);
+        }
+    }
+}
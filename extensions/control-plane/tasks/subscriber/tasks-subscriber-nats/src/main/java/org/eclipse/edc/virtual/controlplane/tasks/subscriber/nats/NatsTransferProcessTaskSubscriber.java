@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nats.client.JetStream;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.controlplane.transfer.spi.TransferProcessTaskExecutor;
+import org.eclipse.edc.controlplane.transfer.spi.tasks.TransferProcessTaskPayload;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+
+/**
+ * Consumes transfer process tasks and delegates them to the {@link TransferProcessTaskExecutor}.
+ */
+public class NatsTransferProcessTaskSubscriber extends NatsTaskSubscriber {
+
+    private final TransferProcessTaskExecutor taskExecutor;
+
+    public NatsTransferProcessTaskSubscriber(JetStream jetStream, NatsTaskSubscriberConfig config, ObjectMapper mapper,
+                                             TaskStore taskStore, TransactionContext transactionContext, Monitor monitor,
+                                             TransferProcessTaskExecutor taskExecutor) {
+        super(config.transferName(), config.transferStream(), config.transferSubject(), jetStream, config, mapper,
+                taskStore, transactionContext, monitor);
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    protected StatusResult<Void> handle(Task task) {
+        if (task.getPayload() instanceof TransferProcessTaskPayload payload) {
+            return taskExecutor.handle(payload);
+        }
+        return StatusResult.failure(FATAL_ERROR, "Unsupported payload %s for transfer process subscriber".formatted(task.getPayload().name()));
+    }
+}
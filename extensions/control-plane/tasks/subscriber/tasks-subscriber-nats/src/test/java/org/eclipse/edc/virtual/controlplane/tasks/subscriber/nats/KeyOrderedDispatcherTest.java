@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyOrderedDispatcherTest {
+
+    private final KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(4, "test");
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop(1);
+    }
+
+    @Test
+    void dispatch_shouldPreserveOrder_forSameKey() {
+        var executed = new CopyOnWriteArrayList<Integer>();
+
+        var completions = IntStream.range(0, 100)
+                .mapToObj(i -> dispatcher.dispatch("process-1", () -> executed.add(i)))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(completions).join();
+
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void dispatch_shouldRunDifferentKeysInParallel() throws InterruptedException {
+        // the hash codes of these keys differ by one, so they are routed to different lanes
+        var keys = List.of("process-1", "process-2");
+        var started = new CountDownLatch(keys.size());
+        var release = new CountDownLatch(1);
+
+        var completions = keys.stream()
+                .map(key -> dispatcher.dispatch(key, () -> {
+                    started.countDown();
+                    await(release);
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        CompletableFuture.allOf(completions).join();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NatsRedeliveryPolicyTest {
+
+    private final NatsRedeliveryPolicy policy = new NatsRedeliveryPolicy(100, 1000, 5);
+
+    @Test
+    void delayFor_shouldDoubleOnEveryDelivery() {
+        assertThat(policy.delayFor(1)).isEqualTo(Duration.ofMillis(100));
+        assertThat(policy.delayFor(2)).isEqualTo(Duration.ofMillis(200));
+        assertThat(policy.delayFor(3)).isEqualTo(Duration.ofMillis(400));
+    }
+
+    @Test
+    void delayFor_shouldBeCappedByMaxDelay() {
+        assertThat(policy.delayFor(5)).isEqualTo(Duration.ofMillis(1000));
+        assertThat(policy.delayFor(Long.MAX_VALUE)).isEqualTo(Duration.ofMillis(1000));
+    }
+
+    @Test
+    void isExhausted_shouldBeTrue_whenMaxDeliveriesReached() {
+        assertThat(policy.isExhausted(4)).isFalse();
+        assertThat(policy.isExhausted(5)).isTrue();
+    }
+}
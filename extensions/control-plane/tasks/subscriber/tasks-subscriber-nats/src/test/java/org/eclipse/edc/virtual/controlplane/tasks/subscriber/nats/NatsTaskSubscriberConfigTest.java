@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NatsTaskSubscriberConfigTest {
+
+    private final NatsTaskSubscriberConfig defaults = new NatsTaskSubscriberConfig("nats://localhost:4222", 100, 100, 1,
+            "cn-subscriber", "cn-stream", "negotiations.>", "tp-subscriber", "tp-stream", "transfers.>",
+            1000, 60000, 10, "tasks-dlq", "dlq", true);
+
+    @Test
+    void withUpstreamFallback_shouldUseUpstreamKeys_whenOwnKeysAreNotSet() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "edc.nats.cn.subscriber.url", "nats://upstream:4222",
+                "edc.nats.cn.subscriber.name", "cn-worker",
+                "edc.nats.cn.subscriber.stream", "negotiation-stream",
+                "edc.nats.tp.subscriber.name", "tp-worker",
+                "edc.nats.tp.subscriber.subject", "tp.>"));
+
+        var resolved = defaults.withUpstreamFallback(config);
+
+        assertThat(resolved.url()).isEqualTo("nats://upstream:4222");
+        assertThat(resolved.negotiationName()).isEqualTo("cn-worker");
+        assertThat(resolved.negotiationStream()).isEqualTo("negotiation-stream");
+        assertThat(resolved.negotiationSubject()).isEqualTo("negotiations.>");
+        assertThat(resolved.transferName()).isEqualTo("tp-worker");
+        assertThat(resolved.transferSubject()).isEqualTo("tp.>");
+        assertThat(resolved.batchSize()).isEqualTo(100);
+    }
+
+    @Test
+    void withUpstreamFallback_shouldPreferOwnKeys() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "edc.nats.tasks.subscriber.negotiation.name", "cn-subscriber",
+                "edc.nats.cn.subscriber.name", "cn-worker"));
+
+        assertThat(defaults.withUpstreamFallback(config).negotiationName()).isEqualTo("cn-subscriber");
+    }
+
+    @Test
+    void withUpstreamFallback_shouldKeepDefaults_whenNothingIsSet() {
+        assertThat(defaults.withUpstreamFallback(ConfigFactory.empty())).isEqualTo(defaults);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2026 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.virtual.controlplane.tasks.subscriber.nats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nats.client.JetStream;
+import io.nats.client.Message;
+import io.nats.client.impl.Headers;
+import io.nats.client.impl.NatsJetStreamMetaData;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.ContractNegotiationTaskExecutor;
+import org.eclipse.edc.controlplane.contract.spi.negotiation.tasks.RequestNegotiation;
+import org.eclipse.edc.controlplane.tasks.Task;
+import org.eclipse.edc.controlplane.tasks.store.TaskStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NatsTaskSubscriberTest {
+
+    private static final String SUBJECT = "negotiations.consumer.negotiation.request.prepare";
+    private static final byte[] DATA = new byte[]{ 1 };
+
+    private final JetStream jetStream = mock();
+    private final ObjectMapper mapper = mock();
+    private final TaskStore taskStore = mock();
+    private final Monitor monitor = mock();
+    private final ContractNegotiationTaskExecutor taskExecutor = mock();
+    private final NatsTaskSubscriberConfig config = new NatsTaskSubscriberConfig("nats://localhost:4222", 100, 100, 1,
+            "cn-subscriber", "cn-stream", "negotiations.>", "tp-subscriber", "tp-stream", "transfers.>",
+            100, 1000, 3, "tasks-dlq", "dlq", false);
+    private NatsContractNegotiationTaskSubscriber subscriber;
+    private Task task;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        subscriber = new NatsContractNegotiationTaskSubscriber(jetStream, config, mapper, taskStore,
+                new NoopTransactionContext(), monitor, taskExecutor);
+        var payload = RequestNegotiation.Builder.newInstance()
+                .processId("negotiation-123")
+                .processState(100)
+                .processType("CONSUMER")
+                .build();
+        task = Task.Builder.newInstance().at(System.currentTimeMillis()).payload(payload).build();
+        when(mapper.readValue(DATA, Task.class)).thenReturn(task);
+        when(taskStore.findById(task.getId())).thenReturn(task);
+    }
+
+    @Test
+    void process_shouldAckAndDeleteTask_whenSucceeded() {
+        var message = message(1);
+        when(taskExecutor.handle(any())).thenReturn(StatusResult.success());
+
+        subscriber.process(message);
+
+        verify(message).ack();
+        verify(taskStore).delete(task.getId());
+    }
+
+    @Test
+    void process_shouldTerm_whenFatalError() {
+        var message = message(1);
+        when(taskExecutor.handle(any())).thenReturn(StatusResult.failure(FATAL_ERROR, "fatal"));
+
+        subscriber.process(message);
+
+        verify(message).term();
+        verify(taskStore).delete(task.getId());
+    }
+
+    @Test
+    void process_shouldNakWithBackoff_whenTransientError() {
+        var message = message(2);
+        when(taskExecutor.handle(any())).thenReturn(StatusResult.failure(ERROR_RETRY, "retry"));
+
+        subscriber.process(message);
+
+        verify(message).nakWithDelay(Duration.ofMillis(200));
+        verify(message, never()).nak();
+        verify(taskStore, never()).delete(any());
+    }
+
+    @Test
+    void process_shouldNakWithBackoff_whenExecutorThrows() {
+        var message = message(1);
+        when(taskExecutor.handle(any())).thenThrow(new RuntimeException("boom"));
+
+        subscriber.process(message);
+
+        verify(message).nakWithDelay(Duration.ofMillis(100));
+    }
+
+    @Test
+    void process_shouldDeadLetter_whenMaxDeliveriesReached() throws Exception {
+        var message = message(3);
+        when(taskExecutor.handle(any())).thenReturn(StatusResult.failure(ERROR_RETRY, "retry"));
+
+        subscriber.process(message);
+
+        verify(jetStream).publish(eq("dlq." + SUBJECT), any(Headers.class), eq(DATA));
+        verify(message).term();
+        verify(message, never()).nakWithDelay(any(Duration.class));
+        verify(taskStore).delete(task.getId());
+    }
+
+    @Test
+    void process_shouldDeadLetter_whenTaskCannotBeDeserialized() throws Exception {
+        var message = message(1);
+        when(mapper.readValue(DATA, Task.class)).thenThrow(new IOException("invalid"));
+
+        subscriber.process(message);
+
+        verify(jetStream).publish(eq("dlq." + SUBJECT), any(Headers.class), eq(DATA));
+        verify(message).term();
+        verifyNoInteractions(taskExecutor);
+    }
+
+    @Test
+    void process_shouldRedeliver_whenTaskNotInStore() {
+        var message = message(1);
+        when(taskStore.findById(task.getId())).thenReturn(null);
+
+        subscriber.process(message);
+
+        verify(message).nakWithDelay(Duration.ofMillis(100));
+        verifyNoInteractions(taskExecutor);
+    }
+
+    @Test
+    void process_shouldDropMessage_whenTaskStillNotInStoreAfterMaxDeliveries() {
+        var message = message(3);
+        when(taskStore.findById(task.getId())).thenReturn(null);
+
+        subscriber.process(message);
+
+        verify(message).ack();
+        verifyNoInteractions(taskExecutor, jetStream);
+    }
+
+    @Test
+    void processBatch_shouldProcessAllMessages_whenParallel() throws Exception {
+        var parallelConfig = new NatsTaskSubscriberConfig("nats://localhost:4222", 100, 100, 4,
+                "cn-subscriber", "cn-stream", "negotiations.>", "tp-subscriber", "tp-stream", "transfers.>",
+                100, 1000, 3, "tasks-dlq", "dlq", false);
+        var parallelSubscriber = new NatsContractNegotiationTaskSubscriber(jetStream, parallelConfig, mapper, taskStore,
+                new NoopTransactionContext(), monitor, taskExecutor);
+        var otherData = new byte[]{ 2 };
+        var otherTask = Task.Builder.newInstance().at(System.currentTimeMillis())
+                .payload(RequestNegotiation.Builder.newInstance()
+                        .processId("negotiation-456")
+                        .processState(100)
+                        .processType("CONSUMER")
+                        .build())
+                .build();
+        when(mapper.readValue(otherData, Task.class)).thenReturn(otherTask);
+        when(taskStore.findById(otherTask.getId())).thenReturn(otherTask);
+        when(taskExecutor.handle(any())).thenReturn(StatusResult.success());
+        var first = message(1);
+        var second = message(1);
+        when(second.getData()).thenReturn(otherData);
+
+        try {
+            parallelSubscriber.processBatch(List.of(first, second));
+        } finally {
+            parallelSubscriber.stop();
+        }
+
+        verify(first).ack();
+        verify(second).ack();
+        verify(taskStore).delete(task.getId());
+        verify(taskStore).delete(otherTask.getId());
+    }
+
+    private Message message(long deliveredCount) {
+        var metaData = mock(NatsJetStreamMetaData.class);
+        when(metaData.deliveredCount()).thenReturn(deliveredCount);
+        var message = mock(Message.class);
+        when(message.getData()).thenReturn(DATA);
+        when(message.getSubject()).thenReturn(SUBJECT);
+        when(message.isJetStream()).thenReturn(true);
+        when(message.metaData()).thenReturn(metaData);
+        return message;
+    }
+}
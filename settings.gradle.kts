@@ -27,7 +27,25 @@ pluginManagement {
 
 
 // extensions
+include(":extensions:control-plane:dsp:dsp-http-client")
+include(":extensions:control-plane:iam:did-resolution-cache")
+include(":extensions:control-plane:iam:parallel-credential-validation")
+include(":extensions:control-plane:iam:status-list-cache")
+include(":extensions:control-plane:iam:sts-token-cache")
+include(":extensions:control-plane:iam:verified-presentation-cache")
+include(":extensions:control-plane:catalog:asset-selector-index")
+include(":extensions:control-plane:catalog:catalog-cache")
+include(":extensions:control-plane:policy:cel-evaluation")
+include(":extensions:control-plane:policy:policy-evaluation-cache")
+include(":extensions:control-plane:store:process-store-cache")
+include(":extensions:control-plane:store:process-store-cache-spi")
+include(":extensions:control-plane:store:participant-context-cache")
+include(":extensions:control-plane:tasks:affinity:tenant-affinity")
+include(":extensions:control-plane:tasks:affinity:tenant-affinity-spi")
 include(":extensions:control-plane:tasks:listener:tasks-store-poll-executor")
+include(":extensions:control-plane:tasks:publisher:tasks-publisher-nats")
+include(":extensions:control-plane:tasks:reconciler:tasks-reconciler-nats")
+include(":extensions:control-plane:tasks:subscriber:tasks-subscriber-nats")
 //include(":extensions:control-plane:tasks:subscriber:negotiation-tasks-subscriber-nats")
 //include(":extensions:control-plane:tasks:subscriber:transfer-tasks-subscriber-nats")
 
@@ -47,6 +65,7 @@ include(":system-tests:runtimes:tck:tck-controlplane-postgres")
 include(":system-tests:runtimes:e2e:e2e-controlplane-memory")
 include(":system-tests:runtimes:e2e:e2e-controlplane-postgres")
 include(":system-tests:runtimes:e2e:e2e-controlplane-postgres-nats")
+include(":system-tests:runtimes:e2e:e2e-controlplane-postgres-nats-async")
 include(":system-tests:runtimes:e2e:e2e-dcp-controlplane-postgres")
 
 // BOM modules ----------------------------------------------------------------
@@ -55,3 +74,4 @@ include(":dist:bom:virtual-controlplane-memory-bom")
 include(":dist:bom:virtual-controlplane-feature-dcp-bom")
 include(":dist:bom:virtual-controlplane-feature-sql-bom")
 include(":dist:bom:virtual-controlplane-feature-nats-bom")
+include(":dist:bom:virtual-controlplane-feature-nats-async-bom")
@@ -48,6 +48,7 @@ dependencies {
     testCompileOnly(project(":system-tests:runtimes:e2e:e2e-controlplane-memory"))
     testCompileOnly(project(":system-tests:runtimes:e2e:e2e-controlplane-postgres"))
     testCompileOnly(project(":system-tests:runtimes:e2e:e2e-controlplane-postgres-nats"))
+    testCompileOnly(project(":system-tests:runtimes:e2e:e2e-controlplane-postgres-nats-async"))
     testCompileOnly(project(":system-tests:runtimes:e2e:e2e-dcp-controlplane-postgres"))
     testCompileOnly(project(":system-tests:runtimes:issuer"))
     testCompileOnly(project(":system-tests:runtimes:identity-hub"))
@@ -42,6 +42,10 @@ public interface Runtimes {
                 ":system-tests:runtimes:e2e:e2e-controlplane-postgres-nats",
         };
 
+        String[] PG_NATS_ASYNC_TASKS_MODULES = {
+                ":system-tests:runtimes:e2e:e2e-controlplane-postgres-nats-async",
+        };
+
         String[] DCP_PG_MODULES = {
                 ":system-tests:runtimes:e2e:e2e-dcp-controlplane-postgres",
         };
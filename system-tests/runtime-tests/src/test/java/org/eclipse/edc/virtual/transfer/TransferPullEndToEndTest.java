@@ -108,4 +108,40 @@ class TransferPullEndToEndTest {
 
     }
 
+    @Nested
+    @PostgresqlIntegrationTest
+    class PostgresNatsAsync extends TransferPullEndToEndTestBase {
+
+        @Order(0)
+        @RegisterExtension
+        static final OauthServerEndToEndExtension AUTH_SERVER_EXTENSION = OauthServerEndToEndExtension.Builder.newInstance().build();
+
+        @Order(0)
+        @RegisterExtension
+        static final NatsEndToEndExtension NATS_EXTENSION = new NatsEndToEndExtension();
+        @Order(0)
+        @RegisterExtension
+        static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = new PostgresqlEndToEndExtension(createPgContainer());
+        @Order(1)
+        @RegisterExtension
+        static final BeforeAllCallback SETUP = context -> {
+            POSTGRESQL_EXTENSION.createDatabase(Runtimes.ControlPlane.NAME.toLowerCase());
+        };
+        @Order(2)
+        @RegisterExtension
+        static final RuntimeExtension CONTROL_PLANE = ComponentRuntimeExtension.Builder.newInstance()
+                .name(Runtimes.ControlPlane.NAME)
+                .modules(Runtimes.ControlPlane.PG_NATS_ASYNC_TASKS_MODULES)
+                .endpoints(Runtimes.ControlPlane.ENDPOINTS.build())
+                .configurationProvider(Runtimes.ControlPlane::config)
+                .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(Runtimes.ControlPlane.NAME.toLowerCase()))
+                .configurationProvider(NATS_EXTENSION::configFor)
+                .configurationProvider(AUTH_SERVER_EXTENSION::getConfig)
+                .paramProvider(VirtualConnector.class, VirtualConnector::forContext)
+                .paramProvider(ManagementApiClientV5.class, (ctx) -> ManagementApiClientV5.forContext(ctx, AUTH_SERVER_EXTENSION.getAuthServer()))
+                .paramProvider(Participants.class, TransferPullEndToEndTest::participants)
+                .build();
+
+    }
+
 }